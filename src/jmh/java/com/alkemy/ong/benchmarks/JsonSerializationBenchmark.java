@@ -0,0 +1,91 @@
+package com.alkemy.ong.benchmarks;
+
+import com.alkemy.ong.web.controllers.CommentController.CommentDTO;
+import com.alkemy.ong.web.controllers.NewsController.NewsDTO;
+import com.alkemy.ong.web.pagination.PageDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"0", "20"})
+    private int commentsPerNews;
+
+    private ObjectMapper objectMapper;
+    private ObjectWriter pageWriter;
+    private NewsDTO news;
+    private PageDTO<NewsDTO> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        pageWriter = objectMapper.writerFor(new TypeReference<PageDTO<NewsDTO>>() {});
+
+        List<NewsDTO> body = new ArrayList<>();
+        for (long id = 1; id <= DEFAULT_PAGE_SIZE; id++) {
+            body.add(createNews(id));
+        }
+        news = body.get(0);
+        page = PageDTO.<NewsDTO>builder()
+                .body(body)
+                .nextPage("/news?page=1")
+                .previuosPage("This is the first page")
+                .approximateTotal(120L)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] news() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(news);
+    }
+
+    @Benchmark
+    public byte[] page() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] pageWithTypedWriter() throws JsonProcessingException {
+        return pageWriter.writeValueAsBytes(page);
+    }
+
+    private NewsDTO createNews(long id) {
+        List<CommentDTO> comments = new ArrayList<>();
+        for (long commentId = 1; commentId <= commentsPerNews; commentId++) {
+            comments.add(CommentDTO.builder()
+                    .id(commentId)
+                    .body("Felicitaciones por la jornada, fue muy emocionante.")
+                    .user(4L)
+                    .newsId(id)
+                    .build());
+        }
+        return NewsDTO.builder()
+                .newsId(id)
+                .name("Guía sobre ciberacoso sexual a niños")
+                .content("Para construir una cultura preventiva acerca del delito de acoso a niños a través de medios digitales.")
+                .image("https://cdn.example.org/news/" + id + ".jpg")
+                .srcset(Map.of("480w", "https://cdn.example.org/news/" + id + "-480.jpg",
+                        "960w", "https://cdn.example.org/news/" + id + "-960.jpg"))
+                .type("news")
+                .commentCount((long) commentsPerNews)
+                .comments(comments)
+                .build();
+    }
+}
@@ -0,0 +1,57 @@
+package com.alkemy.ong.benchmarks;
+
+import com.alkemy.ong.domain.security.AuthenticatedUser;
+import com.alkemy.ong.domain.security.jwt.JwtUtil;
+import com.alkemy.ong.domain.security.jwt.VerifiedToken;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private AuthenticatedUser user;
+    private String token;
+    private VerifiedToken verifiedToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        user = new AuthenticatedUser(1L, "james@gmail.com", "secret", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = jwtUtil.generateToken(user);
+        verifiedToken = jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public String generate() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public VerifiedToken parse() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public Boolean validateParsingEachClaim() {
+        return jwtUtil.validateToken(token, user);
+    }
+
+    @Benchmark
+    public Boolean validateVerifiedToken() {
+        return jwtUtil.validateToken(verifiedToken, user);
+    }
+
+    @Benchmark
+    public Boolean parseAndValidate() {
+        return jwtUtil.validateToken(jwtUtil.verify(token), user);
+    }
+}
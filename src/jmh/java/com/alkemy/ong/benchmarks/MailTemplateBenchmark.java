@@ -0,0 +1,47 @@
+package com.alkemy.ong.benchmarks;
+
+import com.alkemy.ong.domain.mail.MailTemplateEngine;
+import com.alkemy.ong.web.utils.MailUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MailTemplateBenchmark {
+
+    private static final String BODY = "<br>Welcome to Somas Mas ONG, now you are part of our family." +
+            "<br>%s, your Username is:<br>%s" +
+            "<br><br><b>¡Thank you for registering!</b><br>";
+
+    private MailTemplateEngine engine;
+    private Map<String, String> values;
+
+    @Setup
+    public void setUp() {
+        engine = new MailTemplateEngine();
+        values = Map.of("firstName", "James", "email", "james@gmail.com");
+    }
+
+    @Benchmark
+    public String concatenatedTemplate() {
+        String body = String.format(BODY, values.get("firstName"), values.get("email"));
+        return MailUtils.buildTemplate(body).replace("%body%", body);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return engine.renderInLayout(MailTemplateEngine.REGISTRATION, values);
+    }
+
+    @Benchmark
+    public byte[] compiledTemplateBytes() {
+        return engine.renderBytes(MailTemplateEngine.LAYOUT,
+                Map.of("body", engine.render(MailTemplateEngine.REGISTRATION, values)));
+    }
+}
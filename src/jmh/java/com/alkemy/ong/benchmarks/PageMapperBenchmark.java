@@ -0,0 +1,110 @@
+package com.alkemy.ong.benchmarks;
+
+import com.alkemy.ong.configuration.MapperRegistry;
+import com.alkemy.ong.data.entities.MemberEntity;
+import com.alkemy.ong.data.pagination.PageModel;
+import com.alkemy.ong.data.pagination.PageModelMapper;
+import com.alkemy.ong.domain.members.Member;
+import com.alkemy.ong.web.controllers.MemberController.MemberDTO;
+import com.alkemy.ong.web.pagination.PageDTO;
+import com.alkemy.ong.web.pagination.PageDTOMapper;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.toList;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageMapperBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    private ModelMapper modelMapper;
+    private PageModelMapper<Member, MemberEntity> registeredMapper;
+    private PageDTOMapper<MemberDTO, Member> dtoMapper;
+    private PageModel<MemberEntity> page;
+    private PageModel<Member> modelPage;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        registeredMapper = new PageModelMapper<>(new MapperRegistry(modelMapper));
+        registeredMapper.register(MemberEntity.class, Member.class, PageMapperBenchmark::toModel);
+        dtoMapper = new PageDTOMapper<>(new MapperRegistry(modelMapper));
+        dtoMapper.register(Member.class, MemberDTO.class, PageMapperBenchmark::toDto);
+
+        List<MemberEntity> body = new ArrayList<>();
+        for (long id = 1; id <= pageSize; id++) {
+            body.add(MemberEntity.builder()
+                    .id(id)
+                    .name("James Potter")
+                    .facebookUrl("wwww.facebook/jamespotter.com")
+                    .instagramUrl("wwww.instagram/jamespotter.com")
+                    .linkedinUrl("wwww.linkedin/jamespotter.com")
+                    .image("james.jpg")
+                    .description("Some description about James Potter")
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build());
+        }
+        page = PageModel.<MemberEntity>builder()
+                .body(body)
+                .nextPage("/members?page=1")
+                .previousPage("This is the first page")
+                .build();
+        modelPage = registeredMapper.toPageModel(page, Member.class);
+    }
+
+    @Benchmark
+    public List<Member> reflectiveModelMapper() {
+        return page.getBody().stream()
+                .map(entity -> modelMapper.map(entity, Member.class))
+                .collect(toList());
+    }
+
+    @Benchmark
+    public PageModel<Member> registeredFunction() {
+        return registeredMapper.toPageModel(page, Member.class);
+    }
+
+    @Benchmark
+    public PageDTO<MemberDTO> registeredDtoFunction() {
+        return dtoMapper.toPageDTO(modelPage, MemberDTO.class);
+    }
+
+    private static Member toModel(MemberEntity memberEntity) {
+        return Member.builder()
+                .id(memberEntity.getId())
+                .name(memberEntity.getName())
+                .facebookUrl(memberEntity.getFacebookUrl())
+                .instagramUrl(memberEntity.getInstagramUrl())
+                .linkedinUrl(memberEntity.getLinkedinUrl())
+                .image(memberEntity.getImage())
+                .description(memberEntity.getDescription())
+                .createdAt(memberEntity.getCreatedAt())
+                .updatedAt(memberEntity.getUpdatedAt())
+                .build();
+    }
+
+    private static MemberDTO toDto(Member member) {
+        return MemberDTO.builder()
+                .id(member.getId())
+                .name(member.getName())
+                .facebookUrl(member.getFacebookUrl())
+                .instagramUrl(member.getInstagramUrl())
+                .linkedinUrl(member.getLinkedinUrl())
+                .image(member.getImage())
+                .description(member.getDescription())
+                .build();
+    }
+}
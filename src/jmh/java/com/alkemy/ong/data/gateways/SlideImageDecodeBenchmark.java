@@ -0,0 +1,85 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.domain.cloud.CloudGateway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decodes a data URI slide image the way {@link SlideImageDecoder} hands it to the cloud upload, against
+ * decoding the whole payload into a byte array first. The upload is replaced by a sink that drains the stream.
+ * It lives in the decoder's package because the decoder is package-private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlideImageDecodeBenchmark {
+
+    private static final String PREFIX = "data:image/png;base64,";
+
+    @Param({"65536", "1048576"})
+    private int imageBytes;
+
+    private final CloudGateway cloudGateway = new DrainingCloudGateway();
+    private String image;
+
+    @Setup
+    public void setUp() {
+        byte[] raw = new byte[imageBytes];
+        new Random(42).nextBytes(raw);
+        image = PREFIX + Base64.getEncoder().encodeToString(raw);
+    }
+
+    @Benchmark
+    public byte[] decodeToArray() {
+        return Base64.getDecoder().decode(image.substring(PREFIX.length()));
+    }
+
+    @Benchmark
+    public String streamingDecode() {
+        return SlideImageDecoder.decodeAndUpload(image, cloudGateway);
+    }
+
+    private static class DrainingCloudGateway implements CloudGateway {
+
+        private final byte[] buffer = new byte[8192];
+
+        @Override
+        public String upload(InputStream inputStream, long contentLength, String contentType, String key) {
+            try {
+                long read = 0;
+                for (int count; (count = inputStream.read(buffer)) != -1; ) {
+                    read += count;
+                }
+                return key + ":" + read;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String uploadFile(MultipartFile multipartFile) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String deleteFileFromS3Bucket(String fileUrl) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Map<String, String> srcset(String fileUrl) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
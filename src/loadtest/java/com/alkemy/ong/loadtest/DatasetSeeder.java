@@ -0,0 +1,136 @@
+package com.alkemy.ong.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Grows the rows loaded from data.sql into a dataset proportional to {@code scale}. Each generated row copies
+ * one of the data.sql rows of its table, so text lengths and shapes stay those of the real seed data.
+ */
+@Slf4j
+public class DatasetSeeder {
+
+    static final String PASSWORD = "12345678";
+
+    private static final int BATCH_SIZE = 1000;
+    private static final int USERS = 500;
+    private static final int NEWS = 1000;
+    private static final int COMMENTS_PER_NEWS = 10;
+    private static final int CONTACTS = 1000;
+    private static final int MEMBERS = 200;
+    private static final int ACTIVITIES = 100;
+    private static final int TESTIMONIALS = 300;
+    private static final int CATEGORIES = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int scale;
+    private final Random random = new Random(42);
+
+    public DatasetSeeder(JdbcTemplate jdbcTemplate, int scale) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scale = scale;
+    }
+
+    public Dataset seed() {
+        long start = System.nanoTime();
+        List<Map<String, Object>> users = jdbcTemplate.queryForList("SELECT firstName, lastName, password FROM users");
+        List<Map<String, Object>> news = jdbcTemplate.queryForList("SELECT name, content, image FROM news");
+        List<Map<String, Object>> comments = jdbcTemplate.queryForList("SELECT body FROM comments");
+        List<Map<String, Object>> activities = jdbcTemplate.queryForList("SELECT name, content, image FROM activities");
+        List<Map<String, Object>> members = jdbcTemplate.queryForList("SELECT name, image, description FROM members");
+
+        insert("INSERT INTO users (firstName, lastName, email, password, photo, role_id) VALUES (?, ?, ?, ?, ?, 2)",
+                USERS * scale, i -> {
+                    Map<String, Object> user = users.get(i % users.size());
+                    return new Object[]{user.get("firstName"), user.get("lastName"), "load" + i + "@mail.com",
+                            user.get("password"), "load" + i + ".jpg"};
+                });
+        insert("INSERT INTO news (name, content, image, deleted, type) VALUES (?, ?, ?, 0, 'news')",
+                NEWS * scale, i -> {
+                    Map<String, Object> row = news.get(i % news.size());
+                    return new Object[]{truncate(row.get("name") + " " + i, 50), row.get("content"), row.get("image")};
+                });
+
+        Range userIds = range("SELECT MIN(id), MAX(id) FROM users");
+        Range newsIds = range("SELECT MIN(news_id), MAX(news_id) FROM news");
+        insert("INSERT INTO comments (body, user_id, news_id, deleted) VALUES (?, ?, ?, 0)",
+                NEWS * COMMENTS_PER_NEWS * scale, i -> new Object[]{
+                        comments.get(i % comments.size()).get("body"), userIds.pick(random), newsIds.pick(random)});
+        insert("INSERT INTO contacts (name, phone, email, message) VALUES (?, ?, ?, ?)",
+                CONTACTS * scale, i -> new Object[]{"Contacto " + i, "11" + (40000000 + i), "contact" + i + "@mail.com",
+                        comments.get(i % comments.size()).get("body")});
+        insert("INSERT INTO members (name, facebookUrl, instagramUrl, linkedinUrl, image, description, deleted) VALUES (?, ?, ?, ?, ?, ?, 0)",
+                MEMBERS * scale, i -> {
+                    Map<String, Object> member = members.get(i % members.size());
+                    return new Object[]{member.get("name"), "www.facebook.com/m" + i, "www.instagram.com/m" + i,
+                            "www.linkedin.com/m" + i, member.get("image"), member.get("description")};
+                });
+        insert("INSERT INTO activities (name, content, image) VALUES (?, ?, ?)",
+                ACTIVITIES * scale, i -> {
+                    Map<String, Object> activity = activities.get(i % activities.size());
+                    return new Object[]{activity.get("name") + " " + i, activity.get("content"), activity.get("image")};
+                });
+        insert("INSERT INTO testimonials (name, image, content) VALUES (?, ?, ?)",
+                TESTIMONIALS * scale, i -> new Object[]{"Testimonio " + i, "testimonio" + i + ".jpg",
+                        comments.get(i % comments.size()).get("body")});
+        insert("INSERT INTO categories (name, description, image) VALUES (?, ?, ?)",
+                CATEGORIES * scale, i -> {
+                    Map<String, Object> row = news.get(i % news.size());
+                    return new Object[]{"Categoria " + i, row.get("content"), row.get("image")};
+                });
+        jdbcTemplate.update("INSERT INTO organizations (name, image, email, welcome_text) " +
+                "SELECT 'Somos Más', 'somosmas.jpg', 'somosfundacionmas@gmail.com', 'Bienvenidos' FROM DUAL " +
+                "WHERE NOT EXISTS (SELECT 1 FROM organizations)");
+
+        for (String table : List.of("members", "activities", "testimonials")) {
+            jdbcTemplate.update("UPDATE hibernate_sequences SET next_val = (SELECT COALESCE(MAX(id), 0) + 1 FROM " + table +
+                    ") WHERE sequence_name = ?", table);
+        }
+
+        Dataset dataset = new Dataset(USERS * scale, range("SELECT MIN(news_id), MAX(news_id) FROM news"),
+                range("SELECT MIN(id_organization), MAX(id_organization) FROM organizations").min());
+        log.info("Seeded scale {} in {} ms", scale, (System.nanoTime() - start) / 1_000_000);
+        return dataset;
+    }
+
+    private void insert(String sql, int rows, IntFunction<Object[]> row) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < rows; i++) {
+            batch.add(row.apply(i));
+            if (batch.size() == BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+    }
+
+    private Range range(String sql) {
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new Range(rs.getLong(1), rs.getLong(2)));
+    }
+
+    private static String truncate(String value, int length) {
+        return value.length() <= length ? value : value.substring(0, length);
+    }
+
+    public record Range(long min, long max) {
+
+        long pick(Random random) {
+            return min + (long) (random.nextDouble() * (max - min + 1));
+        }
+    }
+
+    /**
+     * Id ranges the workload draws from. Seeded users log in as {@code load<n>@mail.com} with {@link #PASSWORD}.
+     */
+    public record Dataset(int seededUsers, Range newsIds, long organizationId) {
+    }
+}
@@ -0,0 +1,82 @@
+package com.alkemy.ong.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps every measured latency per operation. A run of a few minutes produces at most a few million samples,
+ * so exact percentiles are cheaper to reason about than a histogram.
+ */
+public class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    public void record(String operation, long nanos, boolean ok) {
+        samples.computeIfAbsent(operation, name -> new Samples()).add(nanos, ok);
+    }
+
+    public List<EndpointStats> summarize(Duration measured) {
+        double seconds = measured.toNanos() / 1e9;
+        List<EndpointStats> stats = new ArrayList<>(samples.entrySet().stream()
+                .map(entry -> entry.getValue().summarize(entry.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointStats::endpoint))
+                .toList());
+        Samples all = new Samples();
+        samples.values().forEach(all::addAll);
+        stats.add(all.summarize("TOTAL", seconds));
+        return stats;
+    }
+
+    public record EndpointStats(String endpoint, int requests, int errors, double throughputPerSecond,
+                                double p50Millis, double p90Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static class Samples {
+
+        private long[] nanos = new long[1024];
+        private int count;
+        private int errors;
+
+        synchronized void add(long latency, boolean ok) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = latency;
+            if (!ok) {
+                errors++;
+            }
+        }
+
+        synchronized void addAll(Samples other) {
+            synchronized (other) {
+                if (count + other.count > nanos.length) {
+                    nanos = Arrays.copyOf(nanos, count + other.count);
+                }
+                System.arraycopy(other.nanos, 0, nanos, count, other.count);
+                count += other.count;
+                errors += other.errors;
+            }
+        }
+
+        synchronized EndpointStats summarize(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(nanos, count);
+            Arrays.sort(sorted);
+            return new EndpointStats(endpoint, count, errors, count / seconds,
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99),
+                    count == 0 ? 0 : sorted[count - 1] / 1e6);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.alkemy.ong.loadtest;
+
+import com.alkemy.ong.loadtest.LatencyRecorder.EndpointStats;
+import com.alkemy.ong.loadtest.Workload.Operation;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Closed-loop driver: each of {@code concurrency} workers sends its next request as soon as the previous one
+ * answers. Latencies are only recorded once the warmup is over.
+ */
+@Slf4j
+public class LoadDriver {
+
+    private final HttpClient client;
+    private final Workload workload;
+    private final LoadTestSettings settings;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+
+    public LoadDriver(Workload workload, LoadTestSettings settings) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.workload = workload;
+        this.settings = settings;
+    }
+
+    public List<EndpointStats> run() throws InterruptedException {
+        long measureFrom = System.nanoTime() + settings.warmup().toNanos();
+        long stopAt = measureFrom + settings.duration().toNanos();
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < settings.concurrency(); i++) {
+            Random random = new Random(i);
+            Thread worker = new Thread(() -> work(random, measureFrom, stopAt), "load-worker-" + i);
+            workers.add(worker);
+            worker.start();
+        }
+        log.info("Running {} workers: {}s warmup, {}s measured", settings.concurrency(),
+                settings.warmup().toSeconds(), settings.duration().toSeconds());
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        return recorder.summarize(settings.duration());
+    }
+
+    private void work(Random random, long measureFrom, long stopAt) {
+        while (true) {
+            Operation operation = workload.pick(random);
+            HttpRequest request = operation.request().apply(random);
+            long start = System.nanoTime();
+            if (start >= stopAt) {
+                return;
+            }
+            boolean ok;
+            try {
+                ok = client.send(request, BodyHandlers.discarding()).statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (start >= measureFrom) {
+                recorder.record(operation.name(), System.nanoTime() - start, ok);
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.alkemy.ong.loadtest;
+
+import com.alkemy.ong.OngApplication;
+import com.alkemy.ong.domain.search.SearchService;
+import com.alkemy.ong.loadtest.DatasetSeeder.Dataset;
+import com.alkemy.ong.loadtest.LatencyRecorder.EndpointStats;
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfiguration;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.file.Files;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.core.env.CommandLinePropertySource.COMMAND_LINE_PROPERTY_SOURCE_NAME;
+
+/**
+ * Boots the application against an embedded MariaDB seeded by {@link DatasetSeeder}, with mail and storage
+ * stubbed by {@link LoadTestStubs}, then drives {@link Workload} and reports latency and throughput per endpoint.
+ * Arguments are passed to Spring, e.g. {@code --spring.datasource.hikari.maximum-pool-size=20}.
+ */
+public class LoadTest {
+
+    private static final String ADMIN_LOGIN = "{\"email\":\"admin@gmail.com\",\"password\":\"" + DatasetSeeder.PASSWORD + "\"}";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        DBConfigurationBuilder configuration = DBConfigurationBuilder.newBuilder();
+        configuration.setPort(0);
+        configuration.addArg("--character-set-server=utf8mb4");
+        DBConfiguration databaseConfiguration = configuration.build();
+        DB database = DB.newEmbeddedDB(databaseConfiguration);
+        database.start();
+        database.createDB("alkemy_ong");
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(OngApplication.class)
+                .profiles("loadtest")
+                .initializers(initialized -> {
+                    initialized.getBeanFactory().registerSingleton("testClassesExcludeFilter", new TestClassesExcludeFilter());
+                    addProperties(initialized, applicationProperties(databaseConfiguration.getPort(), settings));
+                })
+                .run(args)) {
+            Dataset dataset = new DatasetSeeder(context.getBean(JdbcTemplate.class), settings.scale()).seed();
+            context.getBean(SearchService.class).rebuild();
+
+            URI baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            Workload workload = new Workload(baseUri, adminToken(baseUri, objectMapper), dataset, settings.mix());
+            List<EndpointStats> stats = new LoadDriver(workload, settings).run();
+
+            print(stats, System.out);
+            Files.createDirectories(settings.result().toAbsolutePath().getParent());
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(settings.result().toFile(), report(settings, stats));
+            System.out.println("Results written to " + settings.result().toAbsolutePath());
+        } finally {
+            database.stop();
+        }
+    }
+
+    private static Map<String, Object> applicationProperties(int databasePort, LoadTestSettings settings) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.datasource.url", "jdbc:mysql://localhost:" + databasePort +
+                "/alkemy_ong?rewriteBatchedStatements=true&zeroDateTimeBehavior=CONVERT_TO_NULL");
+        properties.put("spring.datasource.username", "root");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.datasource.hikari.maximum-pool-size", settings.poolSize());
+        properties.put("spring.threads.virtual.enabled", settings.virtualThreads());
+        properties.put("server.port", 0);
+        properties.put("search.rebuild-on-startup", false);
+        properties.put("amazonProperties.accessKey", "loadtest");
+        properties.put("amazonProperties.secretKey", "loadtest");
+        properties.put("amazonProperties.bucketName", "loadtest");
+        properties.put("sendgridProperties.apiKey", "loadtest");
+        properties.put("sendgridProperties.email", "loadtest@mail.com");
+        return properties;
+    }
+
+    /**
+     * Ranks the harness settings above application.yaml, which would otherwise win over them, but below the
+     * command line arguments.
+     */
+    private static void addProperties(ConfigurableApplicationContext context, Map<String, Object> properties) {
+        MutablePropertySources sources = context.getEnvironment().getPropertySources();
+        MapPropertySource harness = new MapPropertySource("loadtest", properties);
+        if (sources.contains(COMMAND_LINE_PROPERTY_SOURCE_NAME)) {
+            sources.addAfter(COMMAND_LINE_PROPERTY_SOURCE_NAME, harness);
+        } else {
+            sources.addFirst(harness);
+        }
+    }
+
+    private static String adminToken(URI baseUri, ObjectMapper objectMapper) throws Exception {
+        HttpRequest login = HttpRequest.newBuilder(baseUri.resolve("/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(ADMIN_LOGIN))
+                .build();
+        String body = HttpClient.newHttpClient().send(login, BodyHandlers.ofString()).body();
+        return objectMapper.readTree(body).path("jwt").asText();
+    }
+
+    private static Map<String, Object> report(LoadTestSettings settings, List<EndpointStats> stats) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scale", settings.scale());
+        report.put("concurrency", settings.concurrency());
+        report.put("warmupSeconds", settings.warmup().toSeconds());
+        report.put("durationSeconds", settings.duration().toSeconds());
+        report.put("mix", settings.mix());
+        report.put("virtualThreads", settings.virtualThreads());
+        report.put("poolSize", settings.poolSize());
+        report.put("endpoints", stats);
+        return report;
+    }
+
+    private static void print(List<EndpointStats> stats, PrintStream out) {
+        out.printf("%-36s %9s %7s %9s %9s %9s %9s %9s%n", "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (EndpointStats row : stats) {
+            out.printf("%-36s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n", row.endpoint(), row.requests(), row.errors(),
+                    row.throughputPerSecond(), row.p50Millis(), row.p90Millis(), row.p99Millis(), row.maxMillis());
+        }
+    }
+
+    /**
+     * The test stubs and nested {@code @TestConfiguration} classes share the test classpath with the harness and
+     * would otherwise be scanned as well, clashing with {@link LoadTestStubs}.
+     */
+    private static class TestClassesExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) throws IOException {
+            return !metadataReader.getClassMetadata().getClassName().startsWith(LoadTest.class.getPackageName() + ".")
+                    && metadataReader.getResource().getURL().toString().contains("/test-classes/");
+        }
+    }
+}
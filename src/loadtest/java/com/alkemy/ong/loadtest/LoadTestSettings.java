@@ -0,0 +1,37 @@
+package com.alkemy.ong.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Run parameters, read from {@code loadtest.*} system properties so they can be passed through Maven with -D.
+ */
+public record LoadTestSettings(int scale, int concurrency, Duration warmup, Duration duration,
+                               Map<String, Integer> mix, Path result, boolean virtualThreads, int poolSize) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.scale", 1),
+                Integer.getInteger("loadtest.concurrency", 32),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 15)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 60)),
+                parseMix(System.getProperty("loadtest.mix", "read=85,write=10,login=5")),
+                Path.of(System.getProperty("loadtest.result", "target/loadtest-result.json")),
+                Boolean.getBoolean("loadtest.virtual-threads"),
+                Integer.getInteger("loadtest.pool-size", 10));
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] pair = entry.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entries must look like read=85, got: " + entry);
+            }
+            weights.put(pair[0].trim(), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,100 @@
+package com.alkemy.ong.loadtest;
+
+import com.alkemy.ong.domain.cloud.CloudGateway;
+import com.alkemy.ong.domain.mail.MailBatchGateway;
+import com.alkemy.ong.domain.mail.MailGateway;
+import com.alkemy.ong.domain.mail.MailRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Replaces SendGrid and S3 while load testing. Each call sleeps for {@code loadtest.stub-latency-ms} to stand
+ * in for the network round-trip, so request threads are held roughly as long as they are in production.
+ */
+@Configuration
+@Profile("loadtest")
+public class LoadTestStubs {
+
+    private final long latencyMillis;
+
+    public LoadTestStubs(@Value("${loadtest.stub-latency-ms:50}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Bean
+    @Primary
+    public StubMailGateway stubMailGateway() {
+        return new StubMailGateway();
+    }
+
+    @Bean
+    @Primary
+    public CloudGateway stubCloudGateway() {
+        return new CloudGateway() {
+            @Override
+            public String uploadFile(MultipartFile multipartFile) {
+                return respond("https://stub.s3.local/" + multipartFile.getOriginalFilename());
+            }
+
+            @Override
+            public String upload(InputStream inputStream, long contentLength, String contentType, String key) {
+                try {
+                    inputStream.transferTo(OutputStream.nullOutputStream());
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return respond("https://stub.s3.local/" + key);
+            }
+
+            @Override
+            public String deleteFileFromS3Bucket(String fileUrl) {
+                return respond("Successfully deleted");
+            }
+
+            @Override
+            public Map<String, String> srcset(String fileUrl) {
+                return Map.of();
+            }
+        };
+    }
+
+    class StubMailGateway implements MailGateway, MailBatchGateway {
+
+        @Override
+        public String sendMail(MailRequest mailRequest) {
+            return respond("{\"message\":\"stubbed\"}");
+        }
+
+        @Override
+        public String sendMailWithTemplate(String to, String subject, String body) {
+            return respond("{\"message\":\"stubbed\"}");
+        }
+
+        @Override
+        public String sendBatchWithTemplate(List<MailRequest> mailRequests) {
+            return respond("{\"message\":\"stubbed\"}");
+        }
+    }
+
+    private <T> T respond(T response) {
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return response;
+    }
+}
@@ -0,0 +1,108 @@
+package com.alkemy.ong.loadtest;
+
+import com.alkemy.ong.loadtest.DatasetSeeder.Dataset;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * The request mix: anonymous reads of the public site, admin writes and logins of seeded users. Groups are
+ * chosen by the {@code loadtest.mix} weights, then an operation inside the group by its own weight.
+ */
+public class Workload {
+
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String LOGIN = "login";
+
+    private static final List<String> SEARCH_TERMS = List.of("ong", "salud", "feria", "libros", "alimentos", "jovenes");
+
+    private final List<Group> groups = new ArrayList<>();
+    private final int totalWeight;
+
+    public Workload(URI baseUri, String adminToken, Dataset dataset, Map<String, Integer> mix) {
+        int newsPages = (int) Math.max(1, Math.min(50, (dataset.newsIds().max() - dataset.newsIds().min()) / 10));
+        add(mix, READ, List.of(
+                get("GET /news?page", 20, random -> baseUri.resolve("/news?page=" + random.nextInt(newsPages))),
+                get("GET /news/{id}", 20, random -> baseUri.resolve("/news/" + dataset.newsIds().pick(random))),
+                get("GET /news/posts/{id}/comments", 15, random -> baseUri.resolve("/news/posts/" + dataset.newsIds().pick(random) + "/comments")),
+                get("GET /organizations/public/{id}", 15, random -> baseUri.resolve("/organizations/public/" + dataset.organizationId())),
+                get("GET /testimonials?page", 10, random -> baseUri.resolve("/testimonials?page=" + random.nextInt(10))),
+                get("GET /members?page", 5, random -> baseUri.resolve("/members?page=" + random.nextInt(5))),
+                get("GET /categories?page", 5, random -> baseUri.resolve("/categories?page=" + random.nextInt(5))),
+                get("GET /slides", 5, random -> baseUri.resolve("/slides")),
+                get("GET /search?q", 5, random -> baseUri.resolve("/search?q=" + SEARCH_TERMS.get(random.nextInt(SEARCH_TERMS.size()))))));
+        add(mix, WRITE, List.of(
+                post("POST /news", 4, baseUri.resolve("/news"), adminToken, random ->
+                        "{\"name\":\"Noticia de carga " + random.nextInt(1_000_000) + "\",\"content\":\"Contenido generado por la prueba de carga.\"," +
+                                "\"image\":\"carga.jpg\",\"type\":\"news\"}"),
+                post("POST /comments", 4, baseUri.resolve("/comments"), adminToken, random ->
+                        "{\"body\":\"Comentario de carga\",\"user\":1,\"newsId\":" + dataset.newsIds().pick(random) + "}"),
+                post("POST /contacts", 2, baseUri.resolve("/contacts"), adminToken, random ->
+                        "{\"name\":\"Contacto\",\"phone\":\"1140000000\",\"email\":\"contacto@mail.com\",\"message\":\"Quiero colaborar\"}")));
+        add(mix, LOGIN, List.of(
+                post("POST /auth/login", 1, baseUri.resolve("/auth/login"), null, random ->
+                        "{\"email\":\"load" + random.nextInt(dataset.seededUsers()) + "@mail.com\",\"password\":\"" + DatasetSeeder.PASSWORD + "\"}")));
+        this.totalWeight = groups.stream().mapToInt(Group::weight).sum();
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("loadtest.mix must give a positive weight to read, write or login");
+        }
+    }
+
+    public Operation pick(Random random) {
+        int ticket = random.nextInt(totalWeight);
+        for (Group group : groups) {
+            ticket -= group.weight();
+            if (ticket < 0) {
+                return group.pick(random);
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private void add(Map<String, Integer> mix, String name, List<Operation> operations) {
+        int weight = mix.getOrDefault(name, 0);
+        if (weight > 0) {
+            groups.add(new Group(weight, operations, operations.stream().mapToInt(Operation::weight).sum()));
+        }
+    }
+
+    private static Operation get(String name, int weight, Function<Random, URI> uri) {
+        return new Operation(name, weight, random -> HttpRequest.newBuilder(uri.apply(random)).GET().build());
+    }
+
+    private static Operation post(String name, int weight, URI uri, String token, Function<Random, String> body) {
+        return new Operation(name, weight, random -> {
+            HttpRequest.Builder request = HttpRequest.newBuilder(uri)
+                    .header("Content-Type", "application/json")
+                    .POST(BodyPublishers.ofString(body.apply(random)));
+            if (token != null) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            return request.build();
+        });
+    }
+
+    public record Operation(String name, int weight, Function<Random, HttpRequest> request) {
+    }
+
+    private record Group(int weight, List<Operation> operations, int operationsWeight) {
+
+        Operation pick(Random random) {
+            int ticket = random.nextInt(operationsWeight);
+            for (Operation operation : operations) {
+                ticket -= operation.weight();
+                if (ticket < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException();
+        }
+    }
+}
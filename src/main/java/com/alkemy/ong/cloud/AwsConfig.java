@@ -0,0 +1,32 @@
+package com.alkemy.ong.cloud;
+
+import com.amazonaws.ClientConfiguration;
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3Client;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AwsConfig {
+
+    @Value("${amazonProperties.accessKey}")
+    private String accessKey;
+    @Value("${amazonProperties.secretKey}")
+    private String secretKey;
+    @Value("${amazonProperties.connectTimeout:2000}")
+    private int connectTimeout;
+    @Value("${amazonProperties.socketTimeout:30000}")
+    private int socketTimeout;
+
+    @Bean
+    public AmazonS3 amazonS3() {
+        AWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
+        ClientConfiguration clientConfiguration = new ClientConfiguration()
+                .withConnectionTimeout(connectTimeout)
+                .withSocketTimeout(socketTimeout);
+        return new AmazonS3Client(credentials, clientConfiguration);
+    }
+}
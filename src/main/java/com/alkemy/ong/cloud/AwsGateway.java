@@ -1,80 +1,228 @@
 package com.alkemy.ong.cloud;
 
 import com.alkemy.ong.domain.cloud.CloudGateway;
+import com.alkemy.ong.domain.cloud.ImageVariant;
 import com.alkemy.ong.domain.exceptions.ServiceUnavailableException;
-import com.amazonaws.auth.AWSCredentials;
-import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3Client;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.DeleteObjectRequest;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.*;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.annotation.PostConstruct;
-import java.io.File;
-import java.io.FileOutputStream;
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Component
 public class AwsGateway implements CloudGateway {
 
-        private AmazonS3 s3client;
+        private final AmazonS3 s3client;
+        private final ImageDerivativeGenerator imageDerivativeGenerator;
+        private final ExecutorService partUploader;
+        private final Semaphore partsInFlight;
 
         @Value("${amazonProperties.endpointUrl}")
         private String endpointUrl;
         @Value("${amazonProperties.bucketName}")
         private String bucketName;
-        @Value("${amazonProperties.accessKey}")
-        private String accessKey;
-        @Value("${amazonProperties.secretKey}")
-        private String secretKey;
-
-        @PostConstruct
-        private void initializeAmazon() {
-            AWSCredentials credentials = new BasicAWSCredentials(this.accessKey, this.secretKey);
-            this.s3client = new AmazonS3Client(credentials);
+        @Value("${amazonProperties.multipartThreshold:16777216}")
+        private long multipartThreshold;
+        @Value("${amazonProperties.partSize:8388608}")
+        private int partSize;
+
+        public AwsGateway(AmazonS3 s3client, ImageDerivativeGenerator imageDerivativeGenerator,
+                          @Value("${amazonProperties.uploadParallelism:4}") int uploadParallelism) {
+            this.s3client = s3client;
+            this.imageDerivativeGenerator = imageDerivativeGenerator;
+            this.partsInFlight = new Semaphore(uploadParallelism);
+            AtomicInteger threadNumber = new AtomicInteger();
+            this.partUploader = Executors.newFixedThreadPool(uploadParallelism, runnable -> {
+                Thread thread = new Thread(runnable, "s3-part-upload-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
         }
 
         @Override
         public String uploadFile(MultipartFile multipartFile) {
-            String fileUrl = "";
-            try {
-                File file = convertMultiPartToFile(multipartFile);
-                String fileName = generateFileName(multipartFile);
-                fileUrl = endpointUrl + "/" + bucketName + "/" + fileName;
-                uploadFileToS3bucket(fileName, file);
-                file.delete();
+            String fileName = generateFileName(multipartFile);
+            try (InputStream inputStream = multipartFile.getInputStream()) {
+                return upload(inputStream, multipartFile.getSize(), multipartFile.getContentType(), fileName);
             } catch (IOException e) {
-                throw new ServiceUnavailableException("The server is not available to save the file");
+                throw new ServiceUnavailableException("The server is not available to save the file", e);
             }
-            return fileUrl;
         }
 
-        private File convertMultiPartToFile(MultipartFile file) throws IOException {
-            File convFile = new File(file.getOriginalFilename());
-            FileOutputStream fos = new FileOutputStream(convFile);
-            fos.write(file.getBytes());
-            fos.close();
-            return convFile;
+        @Override
+        public String upload(InputStream inputStream, long contentLength, String contentType, String key) {
+            try {
+                store(inputStream, contentLength, contentType, key);
+            } catch (IOException | SdkClientException e) {
+                throw new ServiceUnavailableException("The server is not available to save the file", e);
+            }
+            if (contentType != null && contentType.startsWith("image/")) {
+                imageDerivativeGenerator.generate(key);
+            }
+            return baseUrl() + key;
         }
 
-        private String generateFileName(MultipartFile multiPart) {
-            return new Date().getTime() + "-" + multiPart.getOriginalFilename().replace(" ", "_");
+        @Override
+        public Map<String, String> srcset(String fileUrl) {
+            if (fileUrl == null || !fileUrl.startsWith(baseUrl())) {
+                return Collections.emptyMap();
+            }
+            String key = fileUrl.substring(baseUrl().length());
+            Map<String, String> srcset = new LinkedHashMap<>();
+            for (ImageVariant variant : imageDerivativeGenerator.storedVariants(key)) {
+                srcset.put(variant.descriptor(), baseUrl() + variant.keyFor(key));
+            }
+            return srcset;
+        }
+
+        private String baseUrl() {
+            return endpointUrl + "/" + bucketName + "/";
+        }
+
+        private void store(InputStream inputStream, long contentLength, String contentType, String key) throws IOException {
+            if (contentLength <= multipartThreshold) {
+                ObjectMetadata metadata = new ObjectMetadata();
+                metadata.setContentLength(contentLength);
+                metadata.setContentType(contentType);
+                s3client.putObject(new PutObjectRequest(bucketName, key, inputStream, metadata)
+                        .withCannedAcl(CannedAccessControlList.PublicRead));
+            } else {
+                uploadInParts(inputStream, contentLength, contentType, key);
+            }
         }
 
-        public void uploadFileToS3bucket(String fileName, File file) {
-            s3client.putObject(new PutObjectRequest(bucketName, fileName, file)
-                    .withCannedAcl(CannedAccessControlList.PublicRead));
+        private void uploadInParts(InputStream inputStream, long contentLength, String contentType, String key) throws IOException {
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentType(contentType);
+            String uploadId = s3client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, key, metadata)
+                    .withCannedACL(CannedAccessControlList.PublicRead)).getUploadId();
+            List<PartUpload> parts = new ArrayList<>();
+            try {
+                long remaining = contentLength;
+                for (int partNumber = 1; remaining > 0; partNumber++) {
+                    byte[] part = inputStream.readNBytes((int) Math.min(partSize, remaining));
+                    if (part.length == 0) {
+                        throw new IOException("The file ended before its declared size");
+                    }
+                    remaining -= part.length;
+                    partsInFlight.acquireUninterruptibly();
+                    PartUpload upload = new PartUpload(key, uploadId, partNumber, part, remaining == 0);
+                    parts.add(upload);
+                    upload.submit();
+                }
+                List<PartETag> partETags = new ArrayList<>();
+                for (PartUpload part : parts) {
+                    partETags.add(part.future.get());
+                }
+                s3client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucketName, key, uploadId, partETags));
+            } catch (IOException | RuntimeException | ExecutionException | InterruptedException e) {
+                parts.forEach(PartUpload::cancel);
+                s3client.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, uploadId));
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Multipart upload of " + key + " failed", e);
+            }
+        }
+
+        /**
+         * Holds one permit of {@code partsInFlight} from submission until the part is uploaded or cancelled. A part
+         * cancelled before it starts never runs its {@code finally}, so the permit is released at most once from
+         * whichever path gets there first.
+         */
+        private class PartUpload implements Callable<PartETag> {
+
+            private final String key;
+            private final String uploadId;
+            private final int partNumber;
+            private final byte[] part;
+            private final boolean lastPart;
+            private final AtomicBoolean permitHeld = new AtomicBoolean(true);
+            private Future<PartETag> future;
+
+            PartUpload(String key, String uploadId, int partNumber, byte[] part, boolean lastPart) {
+                this.key = key;
+                this.uploadId = uploadId;
+                this.partNumber = partNumber;
+                this.part = part;
+                this.lastPart = lastPart;
+            }
+
+            void submit() {
+                try {
+                    future = partUploader.submit(this);
+                } catch (RuntimeException e) {
+                    releasePermit();
+                    throw e;
+                }
+            }
+
+            void cancel() {
+                if (future != null) {
+                    future.cancel(true);
+                }
+                releasePermit();
+            }
+
+            @Override
+            public PartETag call() {
+                try {
+                    return s3client.uploadPart(new UploadPartRequest()
+                            .withBucketName(bucketName)
+                            .withKey(key)
+                            .withUploadId(uploadId)
+                            .withPartNumber(partNumber)
+                            .withPartSize(part.length)
+                            .withInputStream(new ByteArrayInputStream(part))
+                            .withLastPart(lastPart)).getPartETag();
+                } finally {
+                    releasePermit();
+                }
+            }
+
+            private void releasePermit() {
+                if (permitHeld.compareAndSet(true, false)) {
+                    partsInFlight.release();
+                }
+            }
+        }
+
+        private String generateFileName(MultipartFile multiPart) {
+            return new Date().getTime() + "-" + multiPart.getOriginalFilename().replace(" ", "_");
         }
 
         public String deleteFileFromS3Bucket(String fileUrl) {
             String fileName = fileUrl.substring(fileUrl.lastIndexOf("/") + 1);
             s3client.deleteObject(new DeleteObjectRequest(bucketName, fileName));
+            for (ImageVariant variant : ImageVariant.values()) {
+                s3client.deleteObject(new DeleteObjectRequest(bucketName, variant.keyFor(fileName)));
+            }
+            imageDerivativeGenerator.forget(fileName);
             return "Successfully deleted";
         }
-    }
 
+        @PreDestroy
+        void shutdown() {
+            partUploader.shutdownNow();
+        }
+    }
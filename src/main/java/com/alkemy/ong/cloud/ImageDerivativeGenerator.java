@@ -0,0 +1,169 @@
+package com.alkemy.ong.cloud;
+
+import com.alkemy.ong.domain.cloud.ImageVariant;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Component
+public class ImageDerivativeGenerator {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final AmazonS3 s3client;
+    private final ThreadPoolExecutor executor;
+    private final Cache<String, Set<ImageVariant>> storedVariants;
+
+    @Value("${amazonProperties.bucketName}")
+    private String bucketName;
+
+    public ImageDerivativeGenerator(AmazonS3 s3client,
+                                    @Value("${images.derivatives.threads:2}") int threads,
+                                    @Value("${images.derivatives.queue-capacity:100}") int queueCapacity,
+                                    @Value("${images.derivatives.cache-size:1000}") long cacheSize) {
+        this.s3client = s3client;
+        this.storedVariants = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .build();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-derivatives-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Queues the derivatives of {@code key}. When the queue is full the image is left without derivatives rather
+     * than resizing it on the uploading request's thread. A variant wider than the original is stored at the
+     * original's width, never upscaled.
+     */
+    public void generate(String key) {
+        storedVariants.put(key, EnumSet.noneOf(ImageVariant.class));
+        try {
+            executor.execute(() -> storedVariants.put(key, storeVariants(key)));
+        } catch (RejectedExecutionException e) {
+            log.warn("Derivative queue is full, {} is served without derivatives", key);
+        }
+    }
+
+    /**
+     * The derivatives of {@code key} to offer. Every variant is stored for every image, so this follows the
+     * {@link ImageVariant} naming convention without asking S3, except for images this instance is still working
+     * on or failed to derive.
+     */
+    public Set<ImageVariant> storedVariants(String key) {
+        Set<ImageVariant> known = storedVariants.getIfPresent(key);
+        return known != null ? known : EnumSet.allOf(ImageVariant.class);
+    }
+
+    public void forget(String key) {
+        storedVariants.invalidate(key);
+    }
+
+    private Set<ImageVariant> storeVariants(String key) {
+        Set<ImageVariant> stored = EnumSet.noneOf(ImageVariant.class);
+        BufferedImage original = read(key);
+        if (original == null) {
+            return stored;
+        }
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (store(original, variant, key)) {
+                stored.add(variant);
+            }
+        }
+        return stored;
+    }
+
+    private BufferedImage read(String key) {
+        try (S3Object object = s3client.getObject(bucketName, key);
+             InputStream inputStream = object.getObjectContent()) {
+            return ImageIO.read(inputStream);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not read {} to build its derivatives", key, e);
+            return null;
+        }
+    }
+
+    private boolean store(BufferedImage original, ImageVariant variant, String key) {
+        try {
+            byte[] jpeg = encode(resize(original, variant.getWidth()));
+            ObjectMetadata metadata = new ObjectMetadata();
+            metadata.setContentLength(jpeg.length);
+            metadata.setContentType("image/jpeg");
+            s3client.putObject(new PutObjectRequest(bucketName, variant.keyFor(key), new ByteArrayInputStream(jpeg), metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead));
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not store the {} derivative of {}", variant.getSuffix(), key, e);
+            return false;
+        }
+    }
+
+    private static BufferedImage resize(BufferedImage original, int maxWidth) {
+        int width = Math.min(maxWidth, original.getWidth());
+        int height = Math.max(1, (int) Math.round((double) original.getHeight() * width / original.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(original, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutput = ImageIO.createImageOutputStream(output)) {
+            ImageWriteParam params = writer.getDefaultWriteParam();
+            params.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            params.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(imageOutput);
+            writer.write(null, new IIOImage(image, null, null), params);
+        } finally {
+            writer.dispose();
+        }
+        return output.toByteArray();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,54 @@
+package com.alkemy.ong.cloud;
+
+import com.alkemy.ong.configuration.DependencyGuard;
+import com.alkemy.ong.configuration.DependencyGuards;
+import com.alkemy.ong.domain.cloud.CloudGateway;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.annotation.Priority;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * Calls S3 through {@link AwsGateway} behind the {@code s3} guard, answering 503 while S3 is down or too many
+ * calls are in flight. Calls stay on the request thread: uploads read the request body, and a call abandoned on
+ * another thread would still finish and leave an object nobody references. The client's socket timeouts bound them.
+ * {@code @Priority} makes it win over the gateway it wraps while a {@code @Primary} stub still wins over both.
+ * {@link #srcset} is not guarded: it builds the URLs from the variant naming convention without calling S3, so it
+ * keeps answering while the circuit is open and does not count as a successful S3 call.
+ */
+@Component
+@Priority(0)
+public class ResilientCloudGateway implements CloudGateway {
+
+    public static final String DEPENDENCY = "s3";
+
+    private final CloudGateway s3;
+    private final DependencyGuard guard;
+
+    public ResilientCloudGateway(AwsGateway s3, DependencyGuards guards) {
+        this.s3 = s3;
+        this.guard = guards.onCallingThread(DEPENDENCY);
+    }
+
+    @Override
+    public String uploadFile(MultipartFile multipartFile) {
+        return guard.call(() -> s3.uploadFile(multipartFile));
+    }
+
+    @Override
+    public String upload(InputStream inputStream, long contentLength, String contentType, String key) {
+        return guard.call(() -> s3.upload(inputStream, contentLength, contentType, key));
+    }
+
+    @Override
+    public String deleteFileFromS3Bucket(String fileUrl) {
+        return guard.call(() -> s3.deleteFileFromS3Bucket(fileUrl));
+    }
+
+    @Override
+    public Map<String, String> srcset(String fileUrl) {
+        return s3.srcset(fileUrl);
+    }
+}
@@ -0,0 +1,51 @@
+package com.alkemy.ong.configuration;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CacheMeterBinder;
+
+import java.util.function.Supplier;
+
+/**
+ * Publishes the standard {@code cache.*} meters from a Caffeine cache's stats, for caches that keep their
+ * Caffeine instance private and only expose {@code stats()}.
+ */
+public class CacheStatsMeterBinder extends CacheMeterBinder {
+
+    private final Supplier<CacheStats> stats;
+
+    public CacheStatsMeterBinder(Object cache, String cacheName, Supplier<CacheStats> stats) {
+        super(cache, cacheName, Tags.empty());
+        this.stats = stats;
+    }
+
+    @Override
+    protected Long size() {
+        return null;
+    }
+
+    @Override
+    protected long hitCount() {
+        return stats.get().hitCount();
+    }
+
+    @Override
+    protected Long missCount() {
+        return stats.get().missCount();
+    }
+
+    @Override
+    protected Long evictionCount() {
+        return stats.get().evictionCount();
+    }
+
+    @Override
+    protected long putCount() {
+        return stats.get().loadCount();
+    }
+
+    @Override
+    protected void bindImplementationSpecificMetrics(MeterRegistry registry) {
+    }
+}
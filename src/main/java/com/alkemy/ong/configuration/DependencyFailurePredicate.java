@@ -0,0 +1,33 @@
+package com.alkemy.ong.configuration;
+
+import com.alkemy.ong.domain.exceptions.SendgridException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.SdkClientException;
+
+import java.io.IOException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * Tells the circuit breakers which failures count against a dependency: I/O errors, timeouts and 5xx answers.
+ * A 4xx from SendGrid or S3, such as a rejected address or a missing key, is about the request and not the
+ * dependency's health. {@code record-exceptions} cannot express this because both come as the same exception type.
+ */
+public class DependencyFailurePredicate implements Predicate<Throwable> {
+
+    @Override
+    public boolean test(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SendgridException sendgridException) {
+                return !sendgridException.isRejected();
+            }
+            if (cause instanceof AmazonServiceException amazonServiceException) {
+                return amazonServiceException.getStatusCode() >= 500;
+            }
+            if (cause instanceof IOException || cause instanceof SdkClientException || cause instanceof TimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,90 @@
+package com.alkemy.ong.configuration;
+
+import com.alkemy.ong.domain.exceptions.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Guards calls to one outbound dependency with a bulkhead and a circuit breaker, so a degraded dependency can only
+ * hold a bounded number of threads. Calls run either on the dependency's own thread pool with a time limit, or on
+ * the calling thread behind a semaphore, bounded by the client's socket timeouts. Rejected, timed out and
+ * short-circuited calls surface as {@link ServiceUnavailableException}; failures of the call itself are rethrown
+ * unchanged.
+ */
+public class DependencyGuard {
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final ThreadPoolBulkhead threadPoolBulkhead;
+    private final TimeLimiter timeLimiter;
+    private final ScheduledExecutorService timeouts;
+
+    private DependencyGuard(CircuitBreaker circuitBreaker, Bulkhead bulkhead, ThreadPoolBulkhead threadPoolBulkhead,
+                            TimeLimiter timeLimiter, ScheduledExecutorService timeouts) {
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.threadPoolBulkhead = threadPoolBulkhead;
+        this.timeLimiter = timeLimiter;
+        this.timeouts = timeouts;
+    }
+
+    public static DependencyGuard onThreadPool(CircuitBreaker circuitBreaker, ThreadPoolBulkhead bulkhead,
+                                               TimeLimiter timeLimiter, ScheduledExecutorService timeouts) {
+        return new DependencyGuard(circuitBreaker, null, bulkhead, timeLimiter, timeouts);
+    }
+
+    public static DependencyGuard onCallingThread(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+        return new DependencyGuard(circuitBreaker, bulkhead, null, null, null);
+    }
+
+    /**
+     * Whether the guard turned the call away without making it, because the circuit was open or the bulkhead
+     * full, so it is safe to make again later.
+     */
+    public static boolean isRejection(RuntimeException failure) {
+        return failure instanceof ServiceUnavailableException
+                && (failure.getCause() instanceof CallNotPermittedException || failure.getCause() instanceof BulkheadFullException);
+    }
+
+    public <T> T call(Supplier<T> call) {
+        try {
+            if (threadPoolBulkhead == null) {
+                return circuitBreaker.executeSupplier(Bulkhead.decorateSupplier(bulkhead, call));
+            }
+            Supplier<CompletionStage<T>> bulkheaded = ThreadPoolBulkhead.decorateSupplier(threadPoolBulkhead, call);
+            Supplier<CompletionStage<T>> limited = timeLimiter.decorateCompletionStage(timeouts, bulkheaded);
+            return circuitBreaker.executeCompletionStage(limited).toCompletableFuture().join();
+        } catch (RuntimeException e) {
+            throw translate(e);
+        }
+    }
+
+    private RuntimeException translate(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof CallNotPermittedException || cause instanceof BulkheadFullException
+                || cause instanceof TimeoutException) {
+            return new ServiceUnavailableException("The " + circuitBreaker.getName() + " service is not available right now", cause);
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        return new ServiceUnavailableException("The " + circuitBreaker.getName() + " service failed: " + cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,76 @@
+package com.alkemy.ong.configuration;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkhead;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Builds a {@link DependencyGuard} from the {@code resilience4j.*} instances sharing the dependency's name. Calls run
+ * on the thread pool bulkhead with the time limiter, unless {@code spring.threads.virtual.enabled} is on: then they
+ * stay on the calling virtual thread behind the semaphore bulkhead, instead of being handed to a few platform threads.
+ */
+@Slf4j
+@Component
+public class DependencyGuards {
+
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+    private final ThreadPoolBulkheadRegistry threadPoolBulkheads;
+    private final TimeLimiterRegistry timeLimiters;
+    private final boolean virtualThreads;
+    private final ScheduledExecutorService timeouts;
+
+    public DependencyGuards(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                            ThreadPoolBulkheadRegistry threadPoolBulkheads, TimeLimiterRegistry timeLimiters,
+                            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.threadPoolBulkheads = threadPoolBulkheads;
+        this.timeLimiters = timeLimiters;
+        this.virtualThreads = virtualThreads;
+        this.timeouts = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "dependency-timeouts");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public DependencyGuard forDependency(String name) {
+        if (virtualThreads) {
+            return onCallingThread(name);
+        }
+        return DependencyGuard.onThreadPool(circuitBreakers.circuitBreaker(name), threadPoolBulkheads.bulkhead(name),
+                timeLimiters.timeLimiter(name), timeouts);
+    }
+
+    /**
+     * A guard without a time limit, for calls that must not leave the calling thread, such as ones reading the
+     * request body. They are bounded by the client's own timeouts.
+     */
+    public DependencyGuard onCallingThread(String name) {
+        return DependencyGuard.onCallingThread(circuitBreakers.circuitBreaker(name), bulkheads.bulkhead(name));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timeouts.shutdownNow();
+        threadPoolBulkheads.getAllBulkheads().forEach(this::close);
+    }
+
+    private void close(ThreadPoolBulkhead bulkhead) {
+        try {
+            bulkhead.close();
+        } catch (Exception e) {
+            log.warn("Could not close the {} bulkhead", bulkhead.getName(), e);
+        }
+    }
+}
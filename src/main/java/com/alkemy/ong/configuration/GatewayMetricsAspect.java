@@ -0,0 +1,45 @@
+package com.alkemy.ong.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public gateway method, including the SendGrid and S3 gateways, as {@code ong.gateway} tagged with
+ * the gateway, the method and whether it threw. Errors of a dependency are the {@code outcome=error} series.
+ */
+@Aspect
+@Component
+public class GatewayMetricsAspect {
+
+    public static final String GATEWAY_TIMER = "ong.gateway";
+
+    private final MeterRegistry meterRegistry;
+
+    public GatewayMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.alkemy.ong.data.gateways..*.*(..)) || execution(public * com.alkemy.ong.cloud.AwsGateway.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(GATEWAY_TIMER)
+                    .tag("gateway", joinPoint.getSignature().getDeclaringType().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("outcome", "none".equals(exception) ? "success" : "error")
+                    .tag("exception", exception)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+}
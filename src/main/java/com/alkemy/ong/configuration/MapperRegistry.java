@@ -0,0 +1,46 @@
+package com.alkemy.ong.configuration;
+
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+@Component
+public class MapperRegistry {
+
+    private final ModelMapper modelMapper;
+    private final Map<ClassPair, Function<Object, Object>> mappers = new ConcurrentHashMap<>();
+
+    public MapperRegistry(ModelMapper modelMapper) {
+        this.modelMapper = modelMapper;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S, T> void register(Class<S> sourceClass, Class<T> targetClass, Function<? super S, ? extends T> mapper) {
+        mappers.put(new ClassPair(sourceClass, targetClass), (Function<Object, Object>) mapper);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S, T> Function<S, T> mapperFor(Class<?> sourceClass, Class<T> targetClass) {
+        return (Function<S, T>) mappers.computeIfAbsent(new ClassPair(sourceClass, targetClass), this::resolve);
+    }
+
+    public <T> T map(Object source, Class<T> targetClass) {
+        return this.<Object, T>mapperFor(source.getClass(), targetClass).apply(source);
+    }
+
+    private Function<Object, Object> resolve(ClassPair pair) {
+        for (Class<?> type = pair.source().getSuperclass(); type != null; type = type.getSuperclass()) {
+            Function<Object, Object> mapper = mappers.get(new ClassPair(type, pair.target()));
+            if (mapper != null) {
+                return mapper;
+            }
+        }
+        return source -> modelMapper.map(source, pair.target());
+    }
+
+    private record ClassPair(Class<?> source, Class<?> target) {
+    }
+}
@@ -0,0 +1,39 @@
+package com.alkemy.ong.configuration;
+
+import com.alkemy.ong.domain.organization.OrganizationViewCache;
+import com.alkemy.ong.domain.security.UserStatusCache;
+import com.alkemy.ong.domain.security.jwt.JwtValidationCache;
+import com.alkemy.ong.domain.users.UserCache;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put("hibernate.session_factory.statement_inspector", new QueryCounter());
+    }
+
+    @Bean
+    public MeterBinder jwtValidationCacheMetrics(JwtValidationCache cache) {
+        return new CacheStatsMeterBinder(cache, "jwt.validation", cache::stats);
+    }
+
+    @Bean
+    public MeterBinder userStatusCacheMetrics(UserStatusCache cache) {
+        return new CacheStatsMeterBinder(cache, "jwt.user-status", cache::stats);
+    }
+
+    @Bean
+    public MeterBinder userCacheMetrics(UserCache cache) {
+        return new CacheStatsMeterBinder(cache, "users", cache::stats);
+    }
+
+    @Bean
+    public MeterBinder organizationViewCacheMetrics(OrganizationViewCache cache) {
+        return new CacheStatsMeterBinder(cache, "organizations", cache::stats);
+    }
+}
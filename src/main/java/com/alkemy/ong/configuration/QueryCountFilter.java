@@ -0,0 +1,50 @@
+package com.alkemy.ong.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request ran as {@code ong.http.db.queries}, tagged like
+ * {@code http.server.requests} by method and URI template. Runs before security so the JWT user lookups count.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERIES_SUMMARY = "ong.http.db.queries";
+
+    private final MeterRegistry meterRegistry;
+
+    public QueryCountFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int queries = QueryCounter.stop();
+            Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            DistributionSummary.builder(QUERIES_SUMMARY)
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri == null ? "UNKNOWN" : uri.toString())
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(queries);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.alkemy.ong.configuration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs Tomcat request handling and async MVC work (exports) on one virtual thread per task instead of the
+ * 200-thread pool, so requests blocked on MySQL, SendGrid or S3 no longer hold a platform thread. The Hikari
+ * pool is then what bounds concurrent database work. The project still compiles for Java 17, so the executor
+ * is looked up reflectively and startup fails if the JVM is older than 21.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled")
+public class VirtualThreadsConfiguration implements WebMvcConfigurer {
+
+    private final ExecutorService virtualThreads = newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandler() {
+        log.info("Handling requests on virtual threads");
+        return protocolHandler -> protocolHandler.setExecutor(virtualThreads);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new TaskExecutorAdapter(virtualThreads));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualThreads.shutdown();
+    }
+
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException("spring.threads.virtual.enabled needs Java 21 or newer, running on " + Runtime.version());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create the virtual thread executor", e);
+        }
+    }
+}
@@ -22,7 +22,9 @@ import java.util.Objects;
 public class ActivityEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "activities_id")
+    @TableGenerator(name = "activities_id", table = "hibernate_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "activities", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -28,11 +28,11 @@ public class CommentEntity {
     private String body;
 
     @JoinColumn(nullable = false, name = "user_id")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private UserEntity userEntity;
 
     @JoinColumn(nullable = false, name = "news_id")
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private NewsEntity newsEntity;
 
     @CreationTimestamp
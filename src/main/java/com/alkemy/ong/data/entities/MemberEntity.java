@@ -22,7 +22,9 @@ import java.util.Objects;
 public class MemberEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "members_id")
+    @TableGenerator(name = "members_id", table = "hibernate_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "members", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
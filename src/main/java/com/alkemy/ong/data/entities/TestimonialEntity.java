@@ -23,7 +23,9 @@ import java.util.Objects;
 public class TestimonialEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "testimonials_id")
+    @TableGenerator(name = "testimonials_id", table = "hibernate_sequences", pkColumnName = "sequence_name",
+            valueColumnName = "next_val", pkColumnValue = "testimonials", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -5,20 +5,36 @@ import com.alkemy.ong.data.repositories.ActivityRepository;
 import com.alkemy.ong.domain.activities.ActivityGateway;
 import com.alkemy.ong.domain.activities.Activity;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
+import com.alkemy.ong.domain.search.SearchDocumentChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
+import static com.alkemy.ong.domain.search.SearchDocumentType.ACTIVITY;
+
 @Component
 public class DefaultActivityGateway implements ActivityGateway {
 
     private final ActivityRepository activityRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DefaultActivityGateway(ActivityRepository activityRepository) {
+    public DefaultActivityGateway(ActivityRepository activityRepository, ApplicationEventPublisher eventPublisher) {
         this.activityRepository = activityRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Activity save(Activity activity) {
-        return toModel(activityRepository.save(toEntity(activity)));
+        return indexed(toModel(activityRepository.save(toEntity(activity))));
+    }
+
+    @Override
+    public List<Activity> saveAll(List<Activity> activities) {
+        return activityRepository.saveAll(activities.stream().map(this::toEntity).toList()).stream()
+                .map(this::toModel)
+                .map(this::indexed)
+                .toList();
     }
 
     @Override
@@ -32,7 +48,12 @@ public class DefaultActivityGateway implements ActivityGateway {
         updateActivity.setName(activity.getName());
         updateActivity.setContent(activity.getContent());
         updateActivity.setImage(activity.getImage());
-        return toModel(activityRepository.save(updateActivity));
+        return indexed(toModel(activityRepository.save(updateActivity)));
+    }
+
+    private Activity indexed(Activity activity) {
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(ACTIVITY, activity.getId(), activity.getName(), activity.getContent()));
+        return activity;
     }
 
     private ActivityEntity toEntity (Activity activity){
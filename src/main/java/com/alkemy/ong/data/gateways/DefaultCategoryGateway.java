@@ -1,11 +1,16 @@
 package com.alkemy.ong.data.gateways;
 
 import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
+
+import java.util.List;
 
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import com.alkemy.ong.data.entities.CategoryEntity;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.Cursor;
 import com.alkemy.ong.data.pagination.PageModelMapper;
 import com.alkemy.ong.data.pagination.PageModel;
 import com.alkemy.ong.data.repositories.CategoryRepository;
@@ -19,16 +24,32 @@ public class DefaultCategoryGateway implements CategoryGateway {
 
 	private final CategoryRepository categoryRepository;
 	private final PageModelMapper<Category, CategoryEntity> pageModelMapper;
+	private final ApproximateTotalCache approximateTotalCache;
 
-	public DefaultCategoryGateway(CategoryRepository categoryRepository, PageModelMapper<Category, CategoryEntity> pageModelMapper) {
+	public DefaultCategoryGateway(CategoryRepository categoryRepository, PageModelMapper<Category, CategoryEntity> pageModelMapper,
+								  ApproximateTotalCache approximateTotalCache) {
 		this.categoryRepository = categoryRepository;
 		this.pageModelMapper = pageModelMapper;
+		this.pageModelMapper.register(CategoryEntity.class, Category.class, this::toModel);
+		this.approximateTotalCache = approximateTotalCache;
 	}
 
 	@Override
 	public PageModel<Category> findAll(int pageNumber) {
-		return pageModelMapper.toPageModel(PaginationUtils.setPagesNumbers(categoryRepository
-                .findAll(PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE)),"/members?page="),Category.class);
+		PageModel<Category> page = pageModelMapper.toPageModel(PaginationUtils.setPagesNumbers(categoryRepository
+                .findAllBy(PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE)),"/categories?page="),Category.class);
+		page.setApproximateTotal(approximateTotalCache.get("categories", categoryRepository::count));
+		return page;
+	}
+
+	@Override
+	public PageModel<Category> findAllByCursor(String cursor) {
+		Cursor position = PaginationUtils.decodeCursor(cursor);
+		List<CategoryEntity> rows = position.isBackward()
+				? categoryRepository.findByIdLessThanOrderByIdDesc(position.getId(), seekPage())
+				: categoryRepository.findByIdGreaterThanOrderByIdAsc(position.isFirst() ? 0L : position.getId(), seekPage());
+		return pageModelMapper.toPageModel(PaginationUtils
+				.setCursors(rows, position, CategoryEntity::getId, "/categories?cursor="), Category.class);
 	}
 
 	@Override
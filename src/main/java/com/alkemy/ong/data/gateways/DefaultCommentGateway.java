@@ -3,18 +3,28 @@ package com.alkemy.ong.data.gateways;
 import com.alkemy.ong.data.entities.CommentEntity;
 import com.alkemy.ong.data.entities.NewsEntity;
 import com.alkemy.ong.data.entities.UserEntity;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.Cursor;
+import com.alkemy.ong.data.pagination.PageModel;
+import com.alkemy.ong.data.pagination.PageModelMapper;
 import com.alkemy.ong.data.repositories.CommentRepository;
 import com.alkemy.ong.data.repositories.NewsRepository;
 import com.alkemy.ong.data.repositories.UserRepository;
+import com.alkemy.ong.data.utils.ExportUtils;
 import com.alkemy.ong.domain.comments.Comment;
 import com.alkemy.ong.domain.comments.CommentGateway;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
+import com.alkemy.ong.domain.versions.ResourceChangedEvent;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.function.Consumer;
 
-import static java.util.stream.Collectors.toList;
+import static com.alkemy.ong.data.utils.PaginationUtils.*;
+import static com.alkemy.ong.domain.versions.VersionedResource.NEWS;
 
-import org.springframework.data.domain.Sort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -23,26 +33,69 @@ public class DefaultCommentGateway implements CommentGateway {
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final NewsRepository newsRepository;
-
-    public DefaultCommentGateway(CommentRepository commentRepository, UserRepository userRepository, NewsRepository newsRepository) {
+    private final EntityManager entityManager;
+    private final PageModelMapper<Comment, CommentEntity> pageMapper;
+    private final ApproximateTotalCache approximateTotalCache;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public DefaultCommentGateway(CommentRepository commentRepository, UserRepository userRepository, NewsRepository newsRepository,
+                                 EntityManager entityManager, PageModelMapper<Comment, CommentEntity> pageMapper,
+                                 ApproximateTotalCache approximateTotalCache, ApplicationEventPublisher eventPublisher) {
         this.commentRepository = commentRepository;
         this.userRepository = userRepository;
         this.newsRepository = newsRepository;
+        this.entityManager = entityManager;
+        this.pageMapper = pageMapper;
+        this.pageMapper.register(CommentEntity.class, Comment.class, this::toModel);
+        this.approximateTotalCache = approximateTotalCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Comment save(Comment comment) {
-        return toModel(commentRepository.save(toEntity(comment)));
+        Comment saved = toModel(commentRepository.save(toEntity(comment)));
+        eventPublisher.publishEvent(new ResourceChangedEvent(NEWS));
+        return saved;
+    }
+
+    @Override
+    public PageModel<Comment> findAll(int pageNumber) {
+        PageModel<Comment> page = pageMapper.toPageModel(setPagesNumbers(commentRepository
+                .findAllBy(PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE, NEWEST_FIRST)), "/comments?page="), Comment.class);
+        page.setApproximateTotal(approximateTotalCache.get("comments", commentRepository::count));
+        return page;
     }
 
     @Override
-    public List<Comment> findAll() {
-        List<CommentEntity> comments = commentsByDescOrder();
-        return comments.stream().map(this::toModel).collect(toList());
+    public PageModel<Comment> findAllByCursor(String cursor) {
+        Cursor position = decodeTimeCursor(cursor);
+        List<CommentEntity> rows = position.isFirst()
+                ? commentRepository.findNewest(seekPage())
+                : position.isBackward()
+                        ? commentRepository.findNewerThan(position.getCreatedAt(), position.getId(), seekPage())
+                        : commentRepository.findOlderThan(position.getCreatedAt(), position.getId(), seekPage());
+        return pageMapper.toPageModel(setCursors(rows, position, CommentEntity::getId, CommentEntity::getCreatedAt,
+                "/comments?cursor="), Comment.class);
     }
 
-    private List<CommentEntity> commentsByDescOrder() {
-        return commentRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
+    @Override
+    public PageModel<Comment> findByNewsId(Long newsId, String cursor) {
+        Cursor position = decodeTimeCursor(cursor);
+        List<CommentEntity> rows = position.isFirst()
+                ? commentRepository.findByNewsEntityNewsId(newsId, seekPage(NEWEST_FIRST))
+                : position.isBackward()
+                        ? commentRepository.findByNewsNewerThan(newsId, position.getCreatedAt(), position.getId(), seekPage())
+                        : commentRepository.findByNewsOlderThan(newsId, position.getCreatedAt(), position.getId(), seekPage());
+        if (rows.isEmpty() && !newsRepository.existsById(newsId)) {
+            throw new ResourceNotFoundException(newsId, "news");
+        }
+        return pageMapper.toPageModel(setCursors(rows, position, CommentEntity::getId, CommentEntity::getCreatedAt,
+                "/news/posts/" + newsId + "/comments?cursor="), Comment.class);
+    }
+
+    @Override
+    public void exportAll(Consumer<Comment> consumer) {
+        ExportUtils.forEachRow(commentRepository.streamAllBy(), entityManager, this::toModel, consumer);
     }
 
     private UserEntity getUserEntity(Long id) {
@@ -59,7 +112,9 @@ public class DefaultCommentGateway implements CommentGateway {
         updateComment.setBody(comment.getBody());
         updateComment.setUserEntity(getUserEntity(comment.getUserId()));
         updateComment.setNewsEntity(getNewsEntity(comment.getNewsId()));
-        return toModel(commentRepository.save(updateComment));
+        Comment updated = toModel(commentRepository.save(updateComment));
+        eventPublisher.publishEvent(new ResourceChangedEvent(NEWS));
+        return updated;
     }
 
     public Comment findById(Long id) {
@@ -69,6 +124,7 @@ public class DefaultCommentGateway implements CommentGateway {
     public void delete(Long id) {
         CommentEntity comment = commentRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException(id, "comment"));
         commentRepository.deleteById(comment.getId());
+        eventPublisher.publishEvent(new ResourceChangedEvent(NEWS));
     }
 
     private CommentEntity toEntity(Comment comment) {
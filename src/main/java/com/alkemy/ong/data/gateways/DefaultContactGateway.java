@@ -1,29 +1,63 @@
 package com.alkemy.ong.data.gateways;
 
 import com.alkemy.ong.data.entities.ContactEntity;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.Cursor;
+import com.alkemy.ong.data.pagination.PageModel;
+import com.alkemy.ong.data.pagination.PageModelMapper;
 import com.alkemy.ong.data.repositories.ContactRepository;
 import com.alkemy.ong.domain.contacts.ContactGateway;
 import com.alkemy.ong.domain.contacts.Contact;
+import com.alkemy.ong.data.utils.ExportUtils;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.function.Consumer;
 
-import static java.util.stream.Collectors.toList;
+import static com.alkemy.ong.data.utils.PaginationUtils.*;
 
 @Component
 public class DefaultContactGateway implements ContactGateway {
 
     private final ContactRepository contactRepository;
+    private final EntityManager entityManager;
+    private final PageModelMapper<Contact, ContactEntity> pageMapper;
+    private final ApproximateTotalCache approximateTotalCache;
 
-    public DefaultContactGateway(ContactRepository contactRepository) {
+    public DefaultContactGateway(ContactRepository contactRepository, EntityManager entityManager,
+                                 PageModelMapper<Contact, ContactEntity> pageMapper, ApproximateTotalCache approximateTotalCache) {
         this.contactRepository = contactRepository;
+        this.entityManager = entityManager;
+        this.pageMapper = pageMapper;
+        this.pageMapper.register(ContactEntity.class, Contact.class, this::toModel);
+        this.approximateTotalCache = approximateTotalCache;
     }
 
     @Override
-    public List<Contact> findAll() {
-        return contactRepository.findAll().stream()
-                .map(this::toModel)
-                .collect(toList());
+    public PageModel<Contact> findAll(int pageNumber) {
+        PageModel<Contact> page = pageMapper.toPageModel(setPagesNumbers(contactRepository
+                .findAllBy(PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE, NEWEST_FIRST)), "/contacts?page="), Contact.class);
+        page.setApproximateTotal(approximateTotalCache.get("contacts", contactRepository::count));
+        return page;
+    }
+
+    @Override
+    public PageModel<Contact> findAllByCursor(String cursor) {
+        Cursor position = decodeTimeCursor(cursor);
+        List<ContactEntity> rows = position.isFirst()
+                ? contactRepository.findNewest(seekPage())
+                : position.isBackward()
+                        ? contactRepository.findNewerThan(position.getCreatedAt(), position.getId(), seekPage())
+                        : contactRepository.findOlderThan(position.getCreatedAt(), position.getId(), seekPage());
+        return pageMapper.toPageModel(setCursors(rows, position, ContactEntity::getId, ContactEntity::getCreatedAt,
+                "/contacts?cursor="), Contact.class);
+    }
+
+    @Override
+    public void exportAll(Consumer<Contact> consumer) {
+        ExportUtils.forEachRow(contactRepository.streamAllBy(), entityManager, this::toModel, consumer);
     }
 
     @Override
@@ -1,9 +1,10 @@
 package com.alkemy.ong.data.gateways;
 
 import com.alkemy.ong.domain.exceptions.SendgridException;
+import com.alkemy.ong.domain.mail.MailBatchGateway;
 import com.alkemy.ong.domain.mail.MailGateway;
 import com.alkemy.ong.domain.mail.MailRequest;
-import com.alkemy.ong.web.utils.MailUtils;
+import com.alkemy.ong.domain.mail.MailTemplateEngine;
 import com.sendgrid.Method;
 import com.sendgrid.Request;
 import com.sendgrid.Response;
@@ -11,17 +12,22 @@ import com.sendgrid.SendGrid;
 import com.sendgrid.helpers.mail.Mail;
 import com.sendgrid.helpers.mail.objects.Content;
 import com.sendgrid.helpers.mail.objects.Email;
+import com.sendgrid.helpers.mail.objects.Personalization;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 @Component
-public class DefaultMailGateway implements MailGateway {
+public class DefaultMailGateway implements MailGateway, MailBatchGateway {
 
     private final SendGrid sendgrid;
+    private final MailTemplateEngine mailTemplateEngine;
 
-    public DefaultMailGateway(SendGrid sendgrid) {
+    public DefaultMailGateway(SendGrid sendgrid, MailTemplateEngine mailTemplateEngine) {
         this.sendgrid = sendgrid;
+        this.mailTemplateEngine = mailTemplateEngine;
     }
 
     @Override
@@ -30,32 +36,49 @@ public class DefaultMailGateway implements MailGateway {
         Mail mail = new Mail(email, mailRequest.getSubject(), new Email(mailRequest.getTo()), new Content("text/plain", mailRequest.getBody()));
         mail.setReplyTo(email);
 
-        try {
-            Request request = new Request();
-            request.setMethod(Method.POST);
-            request.setEndpoint("mail/send");
-            request.setBody(mail.build());
-            Response response = sendgrid.api(request);
-            return response.getBody();
-        }catch (IOException ex){
-            throw new SendgridException("ERROR building mail");
-        }
+        return send(mail, "mail");
     }
 
     public String sendMailWithTemplate(String to, String subject, String body){
         Email emailTo = new Email(to);
         Email email = new Email(System.getenv("SENGRID_EMAIL"), "ONG - Somos Más");
-        Mail mail = new Mail(email, subject, emailTo, new Content("text/html", MailUtils.buildTemplate(body)));
-        mail.personalization.get(0).addSubstitution("%body%", body);
+        Mail mail = new Mail(email, subject, emailTo, new Content("text/html",
+                mailTemplateEngine.render(MailTemplateEngine.LAYOUT, Map.of("body", body))));
+        return send(mail, "mail");
+    }
+
+    @Override
+    public String sendBatchWithTemplate(List<MailRequest> mailRequests){
+        Email email = new Email(System.getenv("SENGRID_EMAIL"), "ONG - Somos Más");
+        Mail mail = new Mail();
+        mail.setFrom(email);
+        mail.setReplyTo(email);
+        mail.addContent(new Content("text/html",
+                mailTemplateEngine.render(MailTemplateEngine.LAYOUT, Map.of("body", "%body%"))));
+        for (MailRequest mailRequest : mailRequests) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(mailRequest.getTo()));
+            personalization.setSubject(mailRequest.getSubject());
+            personalization.addSubstitution("%body%", mailRequest.getBody());
+            mail.addPersonalization(personalization);
+        }
+        return send(mail, "batch");
+    }
+
+    private String send(Mail mail, String what) {
         try {
             Request request = new Request();
             request.setMethod(Method.POST);
             request.setEndpoint("mail/send");
             request.setBody(mail.build());
             Response response = sendgrid.api(request);
+            if (response.getStatusCode() >= 400) {
+                throw new SendgridException("SendGrid rejected the " + what + " with status " + response.getStatusCode(),
+                        response.getStatusCode());
+            }
             return response.getBody();
         }catch (IOException ex){
             throw new SendgridException("ERROR building mail");
         }
     }
-}
\ No newline at end of file
+}
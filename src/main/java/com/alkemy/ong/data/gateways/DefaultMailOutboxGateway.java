@@ -0,0 +1,83 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.data.entities.MailOutboxEntity;
+import com.alkemy.ong.data.repositories.MailOutboxRepository;
+import com.alkemy.ong.domain.mail.MailOutboxGateway;
+import com.alkemy.ong.domain.mail.OutboxMail;
+import com.alkemy.ong.domain.mail.OutboxStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+public class DefaultMailOutboxGateway implements MailOutboxGateway {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    public DefaultMailOutboxGateway(MailOutboxRepository mailOutboxRepository) {
+        this.mailOutboxRepository = mailOutboxRepository;
+    }
+
+    @Override
+    public void enqueue(OutboxMail mail) {
+        mail.setStatus(OutboxStatus.PENDING);
+        mail.setAttempts(0);
+        mail.setNextAttemptAt(LocalDateTime.now());
+        mailOutboxRepository.save(toEntity(mail));
+    }
+
+    /**
+     * Claims the due rows under a fresh token and pushes their next attempt to {@code leaseUntil}, so other
+     * dispatchers skip them while this one sends without holding a lock or a connection.
+     */
+    @Override
+    @Transactional
+    public List<OutboxMail> claimDue(int batchSize, LocalDateTime leaseUntil) {
+        String claim = UUID.randomUUID().toString();
+        if (mailOutboxRepository.claimDue(claim, LocalDateTime.now(), leaseUntil, batchSize) == 0) {
+            return List.of();
+        }
+        return mailOutboxRepository.findByClaimedByOrderByIdAsc(claim).stream()
+                .map(this::toModel)
+                .collect(toList());
+    }
+
+    @Override
+    public void update(List<OutboxMail> mails) {
+        mailOutboxRepository.saveAll(mails.stream().map(this::toEntity).collect(toList()));
+    }
+
+    private OutboxMail toModel(MailOutboxEntity entity) {
+        return OutboxMail.builder()
+                .id(entity.getId())
+                .to(entity.getRecipient())
+                .subject(entity.getSubject())
+                .body(entity.getBody())
+                .status(entity.getStatus())
+                .attempts(entity.getAttempts())
+                .nextAttemptAt(entity.getNextAttemptAt())
+                .lastError(entity.getLastError())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .build();
+    }
+
+    private MailOutboxEntity toEntity(OutboxMail mail) {
+        return MailOutboxEntity.builder()
+                .id(mail.getId())
+                .recipient(mail.getTo())
+                .subject(mail.getSubject())
+                .body(mail.getBody())
+                .status(mail.getStatus())
+                .attempts(mail.getAttempts())
+                .nextAttemptAt(mail.getNextAttemptAt())
+                .lastError(mail.getLastError())
+                .createdAt(mail.getCreatedAt())
+                .build();
+    }
+}
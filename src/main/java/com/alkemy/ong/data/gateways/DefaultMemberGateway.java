@@ -7,36 +7,70 @@ import com.alkemy.ong.domain.members.MemberGateway;
 
 import com.alkemy.ong.data.entities.MemberEntity;
 import com.alkemy.ong.data.repositories.MemberRepository;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.Cursor;
 import com.alkemy.ong.data.pagination.PageModel;
 import com.alkemy.ong.data.utils.PaginationUtils;
+import com.alkemy.ong.domain.versions.ResourceChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
+import static com.alkemy.ong.domain.versions.VersionedResource.MEMBERS;
 
 @Component
 public class DefaultMemberGateway implements MemberGateway {
 
     private final MemberRepository memberRepository;
     private final PageModelMapper<Member, MemberEntity> pageMapper;
+    private final ApproximateTotalCache approximateTotalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DefaultMemberGateway(MemberRepository memberRepository, PageModelMapper<Member, MemberEntity> bodyMapper) {
+    public DefaultMemberGateway(MemberRepository memberRepository, PageModelMapper<Member, MemberEntity> bodyMapper,
+                                ApproximateTotalCache approximateTotalCache, ApplicationEventPublisher eventPublisher) {
         this.memberRepository = memberRepository;
         this.pageMapper = bodyMapper;
+        this.pageMapper.register(MemberEntity.class, Member.class, this::toModel);
+        this.approximateTotalCache = approximateTotalCache;
+        this.eventPublisher = eventPublisher;
     }
 
 
 
     @Override
     public PageModel<Member> findAll(int pageNumber) {
-        return pageMapper.toPageModel(PaginationUtils.setPagesNumbers(memberRepository
-                .findAll(PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE)),"/members?page="),Member.class);
+        PageModel<Member> page = pageMapper.toPageModel(PaginationUtils.setPagesNumbers(memberRepository
+                .findAllBy(PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE)),"/members?page="),Member.class);
+        page.setApproximateTotal(approximateTotalCache.get("members", memberRepository::count));
+        return page;
     }
 
+    @Override
+    public PageModel<Member> findAllByCursor(String cursor) {
+        Cursor position = PaginationUtils.decodeCursor(cursor);
+        List<MemberEntity> rows = position.isBackward()
+                ? memberRepository.findByIdLessThanOrderByIdDesc(position.getId(), seekPage())
+                : memberRepository.findByIdGreaterThanOrderByIdAsc(position.isFirst() ? 0L : position.getId(), seekPage());
+        return pageMapper.toPageModel(PaginationUtils
+                .setCursors(rows, position, MemberEntity::getId, "/members?cursor="), Member.class);
+    }
 
     @Override
     public Member save(Member member) {
-        return toModel(memberRepository.save(toEntity(member)));
+        return changed(toModel(memberRepository.save(toEntity(member))));
+    }
+
+    @Override
+    public List<Member> saveAll(List<Member> members) {
+        List<Member> saved = memberRepository.saveAll(members.stream().map(this::toEntity).toList()).stream()
+                .map(this::toModel)
+                .toList();
+        eventPublisher.publishEvent(new ResourceChangedEvent(MEMBERS));
+        return saved;
     }
 
     @Override
@@ -49,12 +83,18 @@ public class DefaultMemberGateway implements MemberGateway {
     public void delete(Long id) {
         findById(id);
         memberRepository.deleteById(id);
+        eventPublisher.publishEvent(new ResourceChangedEvent(MEMBERS));
     }
 
     @Override
     public Member update(Member member) {
         MemberEntity memberEntity = toEntity(findById(member.getId()));
-        return toModel(memberRepository.save(toUpdate(memberEntity, member)));
+        return changed(toModel(memberRepository.save(toUpdate(memberEntity, member))));
+    }
+
+    private Member changed(Member member) {
+        eventPublisher.publishEvent(new ResourceChangedEvent(MEMBERS));
+        return member;
     }
 
     private Member toModel(MemberEntity memberEntity) {
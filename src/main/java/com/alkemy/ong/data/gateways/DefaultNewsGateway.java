@@ -2,54 +2,81 @@ package com.alkemy.ong.data.gateways;
 
 import com.alkemy.ong.data.entities.CommentEntity;
 import com.alkemy.ong.data.entities.NewsEntity;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.Cursor;
 import com.alkemy.ong.data.pagination.PageModel;
-import com.alkemy.ong.data.pagination.PageModelMapper;
 import com.alkemy.ong.data.repositories.NewsRepository;
+import com.alkemy.ong.data.repositories.NewsRepository.CommentCount;
 import com.alkemy.ong.data.repositories.UserRepository;
 import com.alkemy.ong.data.utils.PaginationUtils;
 import com.alkemy.ong.domain.comments.Comment;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
 import com.alkemy.ong.domain.news.News;
 import com.alkemy.ong.domain.news.NewsGateway;
+import com.alkemy.ong.domain.search.SearchDocumentChangedEvent;
 import lombok.SneakyThrows;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
 import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
+import static com.alkemy.ong.domain.search.SearchDocumentType.NEWS;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
 
 @Component
 public class DefaultNewsGateway implements NewsGateway {
 
     private final NewsRepository newsRepository;
     private final UserRepository userRepository;
-    private final PageModelMapper<News, NewsEntity> pageModelMapper;
+    private final ApproximateTotalCache approximateTotalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DefaultNewsGateway(NewsRepository newsRepository, PageModelMapper pageModelMapper,UserRepository userRepository) {
+    public DefaultNewsGateway(NewsRepository newsRepository, UserRepository userRepository,
+                              ApproximateTotalCache approximateTotalCache, ApplicationEventPublisher eventPublisher) {
         this.newsRepository = newsRepository;
-        this.pageModelMapper = pageModelMapper;
         this.userRepository =userRepository;
+        this.approximateTotalCache = approximateTotalCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public PageModel<News> findAll(int pageNumber){
-        return pageModelMapper.toPageModel(PaginationUtils
+        PageModel<News> page = toSummaryPage(PaginationUtils
                 .setPagesNumbers(newsRepository
-                        .findAll(PageRequest
-                        .of(pageNumber, DEFAULT_PAGE_SIZE)), "/news?page="), News.class);
+                        .findAllBy(PageRequest
+                        .of(pageNumber, DEFAULT_PAGE_SIZE)), "/news?page="));
+        page.setApproximateTotal(approximateTotalCache.get("news", newsRepository::count));
+        return page;
+    }
+
+    @Override
+    public PageModel<News> findAllByCursor(String cursor) {
+        Cursor position = PaginationUtils.decodeCursor(cursor);
+        List<NewsEntity> rows = position.isBackward()
+                ? newsRepository.findByNewsIdLessThanOrderByNewsIdDesc(position.getId(), seekPage())
+                : newsRepository.findByNewsIdGreaterThanOrderByNewsIdAsc(position.isFirst() ? 0L : position.getId(), seekPage());
+        return toSummaryPage(PaginationUtils
+                .setCursors(rows, position, NewsEntity::getNewsId, "/news?cursor="));
     }
 
     @SneakyThrows
     @Override
     public News findById(Long newsId) {
-        NewsEntity newsEntity = newsRepository.findById(newsId).
+        NewsEntity newsEntity = newsRepository.findWithCommentsByNewsId(newsId).
                 orElseThrow(() -> new ResourceNotFoundException("The ID doesn't exist."));
         return toModel(newsEntity);
     }
 
     @Override
     public News saveNews(News news) {
-        return toModel(newsRepository.save(toEntity(news)));
+        return indexed(toModel(newsRepository.save(toEntity(news))));
     }
 
     @Override
@@ -60,13 +87,54 @@ public class DefaultNewsGateway implements NewsGateway {
         newsEntity.setContent(newsEntity.getContent());
         newsEntity.setImage(newsEntity.getImage());
         newsEntity.setType(newsEntity.getType());
-        return toModel(newsRepository.save(toEntity(news)));
+        return indexed(toModel(newsRepository.save(toEntity(news))));
     }
 
     @Override
     public void deleteNews(Long newsId) {
         newsRepository.findById(newsId).orElseThrow(() -> new ResourceNotFoundException("The ID doesn't exist."));
         newsRepository.deleteById(newsId);
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.deleted(NEWS, newsId));
+    }
+
+    private News indexed(News news) {
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(NEWS, news.getNewsId(), news.getName(), news.getContent()));
+        return news;
+    }
+
+    private PageModel<News> toSummaryPage(PageModel<NewsEntity> rows) {
+        Map<Long, Long> commentCounts = countComments(rows.getBody());
+        return PageModel.<News>builder()
+                .body(rows.getBody()
+                        .stream()
+                        .map(newsEntity -> toSummaryModel(newsEntity, commentCounts.getOrDefault(newsEntity.getNewsId(), 0L)))
+                        .collect(toList()))
+                .nextPage(rows.getNextPage())
+                .previousPage(rows.getPreviousPage())
+                .nextCursor(rows.getNextCursor())
+                .previousCursor(rows.getPreviousCursor())
+                .build();
+    }
+
+    private Map<Long, Long> countComments(List<NewsEntity> news) {
+        if (news.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return newsRepository.countCommentsByNewsIds(news.stream().map(NewsEntity::getNewsId).collect(toList()))
+                .stream()
+                .collect(toMap(CommentCount::getNewsId, CommentCount::getTotal));
+    }
+
+    private News toSummaryModel(NewsEntity newsEntity, Long commentCount) {
+        return News.builder()
+                .newsId(newsEntity.getNewsId())
+                .name(newsEntity.getName())
+                .content(newsEntity.getContent())
+                .image(newsEntity.getImage())
+                .type(newsEntity.getType())
+                .commentCount(commentCount)
+                .comments(new ArrayList<>())
+                .build();
     }
 
     private NewsEntity toEntity(News news) {
@@ -90,6 +158,7 @@ public class DefaultNewsGateway implements NewsGateway {
                 .content(newsEntity.getContent())
                 .image(newsEntity.getImage())
                 .type(newsEntity.getType())
+                .commentCount((long) newsEntity.getComments().size())
                 .comments(newsEntity.getComments()
                         .stream()
                         .map(this::toCommentModel)
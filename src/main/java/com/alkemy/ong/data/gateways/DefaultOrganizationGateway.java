@@ -5,8 +5,10 @@ import com.alkemy.ong.data.repositories.OrganizationRepository;
 import com.alkemy.ong.data.repositories.SlidesRepository;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
 import com.alkemy.ong.domain.organization.Organization;
+import com.alkemy.ong.domain.organization.OrganizationChangedEvent;
 import com.alkemy.ong.domain.organization.OrganizationGateway;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 
@@ -18,16 +20,18 @@ public class DefaultOrganizationGateway implements OrganizationGateway {
 
     private final OrganizationRepository organizationRepository;
     private final SlidesRepository slidesRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DefaultOrganizationGateway(OrganizationRepository organizationRepository,
-                                      SlidesRepository slidesRepository) {
+                                      SlidesRepository slidesRepository, ApplicationEventPublisher eventPublisher) {
         this.organizationRepository = organizationRepository;
         this.slidesRepository = slidesRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
     public Organization findById(Long idOrganization) {
-        OrganizationEntity organizationEntity = organizationRepository.findById(idOrganization)
+        OrganizationEntity organizationEntity = organizationRepository.findWithSlidesByIdOrganization(idOrganization)
                 .orElseThrow(() -> new ResourceNotFoundException("No organization with id: " + idOrganization + " exists."));
         return toModel(organizationEntity);
     }
@@ -36,14 +40,18 @@ public class DefaultOrganizationGateway implements OrganizationGateway {
     public Organization updateOrganization(Organization organization) {
         OrganizationEntity entity = organizationRepository.findById(organization.getIdOrganization())
                 .orElseThrow(() -> new ResourceNotFoundException("No organization with id: " + organization.getIdOrganization() + " exists."));
-        return toModel(organizationRepository.save(updateEntity(entity, organization)));
+        Organization updated = toModel(organizationRepository.save(updateEntity(entity, organization)));
+        eventPublisher.publishEvent(new OrganizationChangedEvent(organization.getIdOrganization()));
+        return updated;
     }
 
     @Override
     public Organization updateSocialContact(Organization organization) {
         OrganizationEntity entity = organizationRepository.findById(organization.getIdOrganization())
                 .orElseThrow(() -> new ResourceNotFoundException("No organization with id: " + organization.getIdOrganization() + " exists."));
-        return toModel(organizationRepository.save(updateSocial(entity, organization)));
+        Organization updated = toModel(organizationRepository.save(updateSocial(entity, organization)));
+        eventPublisher.publishEvent(new OrganizationChangedEvent(organization.getIdOrganization()));
+        return updated;
     }
 
     public static Organization toModel(OrganizationEntity entity) {
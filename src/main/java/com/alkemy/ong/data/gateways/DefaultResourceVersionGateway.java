@@ -0,0 +1,46 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.data.repositories.*;
+import com.alkemy.ong.domain.versions.ResourceVersion;
+import com.alkemy.ong.domain.versions.ResourceVersionGateway;
+import com.alkemy.ong.domain.versions.VersionedResource;
+import org.springframework.stereotype.Component;
+
+@Component
+public class DefaultResourceVersionGateway implements ResourceVersionGateway {
+
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
+    private final SlidesRepository slidesRepository;
+    private final OrganizationRepository organizationRepository;
+    private final MemberRepository memberRepository;
+    private final TestimonialRepository testimonialRepository;
+
+    public DefaultResourceVersionGateway(NewsRepository newsRepository, CommentRepository commentRepository,
+                                         SlidesRepository slidesRepository, OrganizationRepository organizationRepository,
+                                         MemberRepository memberRepository, TestimonialRepository testimonialRepository) {
+        this.newsRepository = newsRepository;
+        this.commentRepository = commentRepository;
+        this.slidesRepository = slidesRepository;
+        this.organizationRepository = organizationRepository;
+        this.memberRepository = memberRepository;
+        this.testimonialRepository = testimonialRepository;
+    }
+
+    @Override
+    public ResourceVersion findVersion(VersionedResource resource) {
+        return switch (resource) {
+            case NEWS -> toModel(newsRepository.findVersion(), commentRepository.findVersion());
+            case SLIDES -> toModel(slidesRepository.findVersion());
+            case ORGANIZATIONS -> toModel(organizationRepository.findVersion(), slidesRepository.findVersion());
+            case MEMBERS -> toModel(memberRepository.findVersion());
+            case TESTIMONIALS -> toModel(testimonialRepository.findVersion());
+        };
+    }
+
+    private ResourceVersion toModel(String... tableVersions) {
+        return ResourceVersion.builder()
+                .fingerprint(String.join(";", tableVersions))
+                .build();
+    }
+}
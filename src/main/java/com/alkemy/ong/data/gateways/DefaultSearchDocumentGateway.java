@@ -0,0 +1,55 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.data.entities.ActivityEntity;
+import com.alkemy.ong.data.entities.NewsEntity;
+import com.alkemy.ong.data.entities.TestimonialEntity;
+import com.alkemy.ong.data.repositories.ActivityRepository;
+import com.alkemy.ong.data.repositories.NewsRepository;
+import com.alkemy.ong.data.repositories.TestimonialRepository;
+import com.alkemy.ong.data.utils.ExportUtils;
+import com.alkemy.ong.domain.search.SearchDocument;
+import com.alkemy.ong.domain.search.SearchDocumentGateway;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.util.function.Consumer;
+
+import static com.alkemy.ong.domain.search.SearchDocumentType.ACTIVITY;
+import static com.alkemy.ong.domain.search.SearchDocumentType.NEWS;
+import static com.alkemy.ong.domain.search.SearchDocumentType.TESTIMONIAL;
+
+@Component
+public class DefaultSearchDocumentGateway implements SearchDocumentGateway {
+
+    private final NewsRepository newsRepository;
+    private final ActivityRepository activityRepository;
+    private final TestimonialRepository testimonialRepository;
+    private final EntityManager entityManager;
+
+    public DefaultSearchDocumentGateway(NewsRepository newsRepository, ActivityRepository activityRepository,
+                                        TestimonialRepository testimonialRepository, EntityManager entityManager) {
+        this.newsRepository = newsRepository;
+        this.activityRepository = activityRepository;
+        this.testimonialRepository = testimonialRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public void forEachDocument(Consumer<SearchDocument> consumer) {
+        ExportUtils.forEachRow(newsRepository.streamAllBy(), entityManager, this::toDocument, consumer);
+        ExportUtils.forEachRow(activityRepository.streamAllBy(), entityManager, this::toDocument, consumer);
+        ExportUtils.forEachRow(testimonialRepository.streamAllBy(), entityManager, this::toDocument, consumer);
+    }
+
+    private SearchDocument toDocument(NewsEntity newsEntity) {
+        return new SearchDocument(NEWS, newsEntity.getNewsId(), newsEntity.getName(), newsEntity.getContent());
+    }
+
+    private SearchDocument toDocument(ActivityEntity activityEntity) {
+        return new SearchDocument(ACTIVITY, activityEntity.getId(), activityEntity.getName(), activityEntity.getContent());
+    }
+
+    private SearchDocument toDocument(TestimonialEntity testimonialEntity) {
+        return new SearchDocument(TESTIMONIAL, testimonialEntity.getId(), testimonialEntity.getName(), testimonialEntity.getContent());
+    }
+}
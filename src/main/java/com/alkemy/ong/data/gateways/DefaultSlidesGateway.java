@@ -1,36 +1,42 @@
 package com.alkemy.ong.data.gateways;
 
-import com.alkemy.ong.cloud.AwsGateway;
 import com.alkemy.ong.data.entities.SlidesEntity;
 import com.alkemy.ong.data.repositories.SlidesRepository;
+import com.alkemy.ong.domain.cloud.CloudGateway;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
 import com.alkemy.ong.domain.exceptions.WebRequestException;
+import com.alkemy.ong.domain.organization.OrganizationChangedEvent;
 import com.alkemy.ong.domain.slides.Slides;
 import com.alkemy.ong.domain.slides.SlidesGateway;
-import org.apache.commons.fileupload.disk.DiskFileItemFactory;
-import org.springframework.data.domain.Sort;
+import com.alkemy.ong.domain.versions.ResourceChangedEvent;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
-import org.apache.commons.fileupload.FileItem;
-import org.apache.commons.fileupload.disk.DiskFileItem;
-import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.multipart.commons.CommonsMultipartFile;
 
 
-import java.io.*;
-import java.util.Base64;
+import java.io.IOException;
+import java.util.HashSet;
 import java.util.List;
 
+import static com.alkemy.ong.domain.versions.VersionedResource.SLIDES;
+
 @Component
 public class DefaultSlidesGateway implements SlidesGateway {
 
+    private static final String ORDER_CONSTRAINT = "uk_slides_organization_order";
+
     private final SlidesRepository slidesRepository;
     private final DefaultOrganizationGateway defaultOrganizationGateway;
-    private final AwsGateway awsGateway;
+    private final CloudGateway cloudGateway;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DefaultSlidesGateway(SlidesRepository slidesRepository, DefaultOrganizationGateway defaultOrganizationGateway, AwsGateway awsGateway) {
+    public DefaultSlidesGateway(SlidesRepository slidesRepository, DefaultOrganizationGateway defaultOrganizationGateway, CloudGateway cloudGateway,
+                                ApplicationEventPublisher eventPublisher) {
         this.slidesRepository = slidesRepository;
         this.defaultOrganizationGateway = defaultOrganizationGateway;
-        this.awsGateway = awsGateway;
+        this.cloudGateway = cloudGateway;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -51,17 +57,28 @@ public class DefaultSlidesGateway implements SlidesGateway {
     @Override
     public Slides create(Slides slides) throws IOException {
         // Campo 'order'
-        slides.setOrder(checkAndSetOrder(slides.getOrder()));
+        slides.setOrder(checkAndSetOrder(slides.getOrder(), slides.getIdOrganization()));
         // Decodificación de imagen y guardado en Amazon S3.
-        slides.setImageUrl(decodeSlideImage(slides));
-        return toModel(slidesRepository.save(toEntity(slides)));
+        String imageUrl = SlideImageDecoder.decodeAndUpload(slides.getImageUrl(), cloudGateway);
+        slides.setImageUrl(imageUrl);
+        Slides created;
+        try {
+            created = toModel(saveWithUniqueOrder(toEntity(slides)));
+        } catch (RuntimeException e) {
+            deleteUploadedImage(imageUrl, e);
+            throw e;
+        }
+        publishChanged(created.getIdOrganization());
+        return created;
     }
 
     @Override
     public Slides update(Slides slides) {
         SlidesEntity entity = slidesRepository.findById(slides.getIdSlides())
                 .orElseThrow(()-> new ResourceNotFoundException("No slide with id: " + slides.getIdSlides() + " exists."));
-        return toModel(slidesRepository.save(updateEntity(entity,slides)));
+        Slides updated = toModel(saveWithUniqueOrder(updateEntity(entity,slides)));
+        publishChanged(updated.getIdOrganization());
+        return updated;
     }
 
     @Override
@@ -70,51 +87,63 @@ public class DefaultSlidesGateway implements SlidesGateway {
                 .orElseThrow(()-> new ResourceNotFoundException("No slide with id: " + id + " exists."));
         entity.setDeleted(Boolean.TRUE);
         slidesRepository.save(entity);
+        publishChanged(entity.getOrganization().getIdOrganization());
+    }
+
+    @Override
+    public List<Slides> reorder(Long idOrganization, List<Long> orderedSlideIds) {
+        List<Long> currentIds = slidesRepository.findIdsByOrganization(idOrganization);
+        if (currentIds.size() != orderedSlideIds.size() || !new HashSet<>(orderedSlideIds).equals(new HashSet<>(currentIds))) {
+            throw new WebRequestException("The slides to reorder must be exactly the slides of the organization.");
+        }
+        slidesRepository.parkOrders(idOrganization);
+        slidesRepository.renumber(idOrganization, orderedSlideIds);
+        publishChanged(idOrganization);
+        return slidesRepository.findByOrganizationIdOrganizationOrderByOrderAsc(idOrganization).stream()
+                .map(this::toModel)
+                .toList();
+    }
+
+    private void publishChanged(Long idOrganization) {
+        eventPublisher.publishEvent(new ResourceChangedEvent(SLIDES));
+        eventPublisher.publishEvent(new OrganizationChangedEvent(idOrganization));
     }
 
-    private Integer checkAndSetOrder(Integer order) {
-        List<SlidesEntity> slides = slidesRepository.findAll(Sort.by(Sort.Direction.ASC, "order"));
+    private Integer checkAndSetOrder(Integer order, Long idOrganization) {
         if (order == null) {
-            Integer lastOrder = slides.get(slides.size() - 1).getOrder();
-            if (lastOrder != null) {
-                order = lastOrder + 1;
-            } else {
-                order = 1;
-            }
+            Integer lastOrder = slidesRepository.findMaxOrder(idOrganization);
+            return lastOrder == null ? 1 : lastOrder + 1;
         }
-        for (SlidesEntity slide : slides) {
-            if (slide.getOrder() == order) {
-                throw new WebRequestException("The order indicated already exists.");
-            }
+        if (slidesRepository.existsByOrganizationAndOrder(idOrganization, order)) {
+            throw new WebRequestException("The order indicated already exists.");
         }
         return order;
     }
 
-    private String decodeSlideImage(Slides slides) throws IOException {
-        String dataType;
-        String fileName = "slide";
-        if (slides.getImageUrl().indexOf("data:image/png;") != -1){
-            dataType = "image/png";
-            slides.setImageUrl(slides.getImageUrl().replace("data:image/png;base64,",""));
-            fileName += ".png";
-        } else {
-            dataType = "image/jpeg";
-            slides.setImageUrl(slides.getImageUrl().replace("data:image/jpeg;base64,",""));
-            fileName += ".jpeg";
+    private SlidesEntity saveWithUniqueOrder(SlidesEntity entity) {
+        try {
+            return slidesRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (isOrderConflict(e)) {
+                throw new WebRequestException("The order indicated already exists.");
+            }
+            throw e;
         }
-        byte[] imageByte= Base64.getDecoder().decode(slides.getImageUrl());
-        FileItem fileItem = new DiskFileItem(new String(imageByte), dataType, true, fileName, DiskFileItemFactory.DEFAULT_SIZE_THRESHOLD, new java.io.File(System.getProperty("java.io.tmpdir")));
-        InputStream input =  new ByteArrayInputStream(imageByte);
-        OutputStream os = fileItem.getOutputStream();
-        int ret = input.read();
-        while ( ret != -1 )
-        {
-            os.write(ret);
-            ret = input.read();
+    }
+
+    private static boolean isOrderConflict(DataIntegrityViolationException e) {
+        // MySQL 8 qualifies the key with the table name, as in 'slides.uk_slides_organization_order'.
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().endsWith(ORDER_CONSTRAINT);
+    }
+
+    private void deleteUploadedImage(String imageUrl, RuntimeException failure) {
+        try {
+            cloudGateway.deleteFileFromS3Bucket(imageUrl);
+        } catch (RuntimeException e) {
+            failure.addSuppressed(e);
         }
-        os.flush();
-        MultipartFile image = new CommonsMultipartFile(fileItem);
-        return awsGateway.uploadFile(image);
     }
 
     private Slides toModel(SlidesEntity entity){
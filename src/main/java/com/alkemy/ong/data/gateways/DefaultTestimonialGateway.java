@@ -5,27 +5,44 @@ import com.alkemy.ong.data.pagination.PageModel;
 import com.alkemy.ong.data.pagination.PageModelMapper;
 import com.alkemy.ong.data.repositories.TestimonialRepository;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
+import com.alkemy.ong.domain.search.SearchDocumentChangedEvent;
 import com.alkemy.ong.domain.testimonial.Testimonial;
 import com.alkemy.ong.domain.testimonial.TestimonialGateway;
 import lombok.SneakyThrows;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+
+import java.util.List;
+
 import static com.alkemy.ong.data.utils.PaginationUtils.*;
+import static com.alkemy.ong.domain.search.SearchDocumentType.TESTIMONIAL;
 
 @Component
 public class DefaultTestimonialGateway implements TestimonialGateway {
 
     private final TestimonialRepository testimonialRepository;
     private final PageModelMapper<Testimonial, TestimonialEntity> pageModelMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public DefaultTestimonialGateway(TestimonialRepository testimonialRepository, PageModelMapper<Testimonial, TestimonialEntity> pageModelMapper) {
+    public DefaultTestimonialGateway(TestimonialRepository testimonialRepository, PageModelMapper<Testimonial, TestimonialEntity> pageModelMapper,
+                                     ApplicationEventPublisher eventPublisher) {
         this.testimonialRepository = testimonialRepository;
         this.pageModelMapper = pageModelMapper;
+        this.eventPublisher = eventPublisher;
+        this.pageModelMapper.register(TestimonialEntity.class, Testimonial.class, DefaultTestimonialGateway::toModel);
     }
 
     @SneakyThrows
     public Testimonial save(Testimonial testimonial) {
-        return toModel(testimonialRepository.save(toEntity(testimonial)));
+        return indexed(toModel(testimonialRepository.save(toEntity(testimonial))));
+    }
+
+    public List<Testimonial> saveAll(List<Testimonial> testimonials) {
+        return testimonialRepository.saveAll(testimonials.stream().map(this::toEntity).toList()).stream()
+                .map(DefaultTestimonialGateway::toModel)
+                .map(this::indexed)
+                .toList();
     }
 
     public Testimonial update(Long id, Testimonial testimonial) {
@@ -33,12 +50,13 @@ public class DefaultTestimonialGateway implements TestimonialGateway {
         entity.setName(testimonial.getName());
         entity.setContent(testimonial.getContent());
         entity.setImage(testimonial.getImage());
-        return toModel(testimonialRepository.save(entity));
+        return indexed(toModel(testimonialRepository.save(entity)));
     }
 
     public void delete(Long id) {
         testimonialRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("The ID doesn't exist."));
         testimonialRepository.deleteById(id);
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.deleted(TESTIMONIAL, id));
     }
 
     public PageModel<Testimonial> findAll(int pageNumber) {
@@ -46,6 +64,11 @@ public class DefaultTestimonialGateway implements TestimonialGateway {
                 .findAll(PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE)),"/testimonials?page="), Testimonial.class);
     }
 
+    private Testimonial indexed(Testimonial testimonial) {
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(TESTIMONIAL, testimonial.getId(), testimonial.getName(), testimonial.getContent()));
+        return testimonial;
+    }
+
     private static Testimonial toModel(TestimonialEntity testimonialEntity) {
         return Testimonial.builder()
                 .id(testimonialEntity.getId())
@@ -1,25 +1,36 @@
 package com.alkemy.ong.data.gateways;
 
 import com.alkemy.ong.data.entities.RoleEntity;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.Cursor;
 import com.alkemy.ong.data.pagination.PageModel;
 import com.alkemy.ong.data.pagination.PageModelMapper;
 import com.alkemy.ong.data.repositories.RoleRepository;
+import com.alkemy.ong.data.utils.ExportUtils;
 import com.alkemy.ong.data.utils.PaginationUtils;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
 import com.alkemy.ong.domain.exceptions.WebRequestException;
 import com.alkemy.ong.domain.security.jwt.JwtUtil;
 import com.alkemy.ong.domain.users.User;
+import com.alkemy.ong.domain.users.UserChangedEvent;
 import com.alkemy.ong.domain.users.UserGateway;
 import com.alkemy.ong.data.entities.UserEntity;
 import com.alkemy.ong.data.repositories.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import javax.persistence.EntityManager;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.decodeCursor;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
+import static com.alkemy.ong.data.utils.PaginationUtils.setCursors;
 import static com.alkemy.ong.data.utils.PaginationUtils.setPagesNumbers;
 import static java.util.stream.Collectors.toList;
 
@@ -31,16 +42,24 @@ public class DefaultUserGateway implements UserGateway {
 	private final RoleRepository roleRepository;
 	private final JwtUtil jwtUtil;
 	private final PageModelMapper<User,UserEntity> pageMapper;
+	private final ApproximateTotalCache approximateTotalCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final EntityManager entityManager;
 
 	public DefaultUserGateway(UserRepository userRepository, RoleRepository roleRepository,
 							  @Lazy PasswordEncoder passwordEncoder, JwtUtil jwtUtil,
-							  PageModelMapper<User,UserEntity> pageMapper) {
+							  PageModelMapper<User,UserEntity> pageMapper, ApproximateTotalCache approximateTotalCache,
+							  ApplicationEventPublisher eventPublisher, EntityManager entityManager) {
 
 		this.userRepository = userRepository;
 		this.roleRepository = roleRepository;
 		this.passwordEncoder = passwordEncoder;
 		this.jwtUtil = jwtUtil;
 		this.pageMapper=pageMapper;
+		this.pageMapper.register(UserEntity.class, User.class, this::toModel);
+		this.approximateTotalCache = approximateTotalCache;
+		this.eventPublisher = eventPublisher;
+		this.entityManager = entityManager;
 	}
 
 	@Override
@@ -48,6 +67,11 @@ public class DefaultUserGateway implements UserGateway {
 		return userRepository.findAll().stream().map(this::toModel).collect(toList());
 	}
 
+	@Override
+	public void exportAll(Consumer<User> consumer) {
+		ExportUtils.forEachRow(userRepository.streamAllBy(), entityManager, this::toModel, consumer);
+	}
+
 	@Override
 	public User findById(Long id) {
 		return toModel(
@@ -61,6 +85,11 @@ public class DefaultUserGateway implements UserGateway {
 		return toModel(entity);
 	}
 
+	@Override
+	public Optional<Long> findRoleIdByEmail(String email) {
+		return userRepository.findRoleIdByEmail(email);
+	}
+
 	public void emailExists(String email) {
 		if (userRepository.findByEmail(email).isPresent()) {
 			throw new WebRequestException("Email already exists.");
@@ -70,7 +99,9 @@ public class DefaultUserGateway implements UserGateway {
 	public User register(User user) {
 		emailExists(user.getEmail());
 		user.setRoleId(2l);
-		return toModel(userRepository.save(toEntity(user)));
+		User registered = toModel(userRepository.save(toEntity(user)));
+		eventPublisher.publishEvent(new UserChangedEvent(user.getEmail()));
+		return registered;
 	}
 
 	@Override
@@ -78,7 +109,11 @@ public class DefaultUserGateway implements UserGateway {
 		roleRepository.findById(user.getRoleId())
 				.orElseThrow(() -> new ResourceNotFoundException(user.getRoleId(), "Role"));
 		UserEntity userEntity = toEntity(findById(user.getId()));
-		return toModel(userRepository.save(toUpdate(userEntity, user)));
+		String previousEmail = userEntity.getEmail();
+		User updated = toModel(userRepository.save(toUpdate(userEntity, user)));
+		eventPublisher.publishEvent(new UserChangedEvent(previousEmail));
+		eventPublisher.publishEvent(new UserChangedEvent(updated.getEmail()));
+		return updated;
 	}
 
 	@Override
@@ -87,12 +122,24 @@ public class DefaultUserGateway implements UserGateway {
 				.orElseThrow(() -> new ResourceNotFoundException(id,"User"));
 		userEntity.setDeleted(true);
 		userRepository.save(userEntity);
+		eventPublisher.publishEvent(new UserChangedEvent(userEntity.getEmail()));
 	}
 
 	@Override
 	public PageModel<User> findAll(int pageNumber) {
-		return pageMapper.toPageModel(setPagesNumbers(userRepository
-				.findAll(PageRequest.of(pageNumber,DEFAULT_PAGE_SIZE)),"/users?page="),User.class);
+		PageModel<User> page = pageMapper.toPageModel(setPagesNumbers(userRepository
+				.findAllBy(PageRequest.of(pageNumber,DEFAULT_PAGE_SIZE)),"/users?page="),User.class);
+		page.setApproximateTotal(approximateTotalCache.get("users", userRepository::count));
+		return page;
+	}
+
+	@Override
+	public PageModel<User> findAllByCursor(String cursor) {
+		Cursor position = decodeCursor(cursor);
+		List<UserEntity> rows = position.isBackward()
+				? userRepository.findByIdLessThanOrderByIdDesc(position.getId(), seekPage())
+				: userRepository.findByIdGreaterThanOrderByIdAsc(position.isFirst() ? 0L : position.getId(), seekPage());
+		return pageMapper.toPageModel(setCursors(rows, position, UserEntity::getId, "/users?cursor="), User.class);
 	}
 
 	private User toModel(UserEntity userEntity) {
@@ -0,0 +1,76 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.configuration.DependencyGuard;
+import com.alkemy.ong.configuration.DependencyGuards;
+import com.alkemy.ong.domain.exceptions.ServiceUnavailableException;
+import com.alkemy.ong.domain.mail.MailBatchGateway;
+import com.alkemy.ong.domain.mail.MailGateway;
+import com.alkemy.ong.domain.mail.MailOutboxGateway;
+import com.alkemy.ong.domain.mail.MailRequest;
+import com.alkemy.ong.domain.mail.OutboxMail;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.Priority;
+import java.util.List;
+
+/**
+ * Sends through {@link DefaultMailGateway} behind the {@code sendgrid} guard. A single mail the guard turns away,
+ * because the circuit is open or the bulkhead full, is queued in the outbox instead of failing the request. Any
+ * other failure is rethrown: SendGrid rejected the mail, or it may have gone out already. Outbox batches keep
+ * failing so the dispatcher retries them. {@code @Priority} makes it win over the gateway it wraps while a
+ * {@code @Primary} stub still wins over both.
+ */
+@Slf4j
+@Component
+@Priority(0)
+public class ResilientMailGateway implements MailGateway, MailBatchGateway {
+
+    public static final String DEPENDENCY = "sendgrid";
+
+    private final DefaultMailGateway sendgrid;
+    private final MailOutboxGateway mailOutboxGateway;
+    private final DependencyGuard guard;
+
+    public ResilientMailGateway(DefaultMailGateway sendgrid, MailOutboxGateway mailOutboxGateway, DependencyGuards guards) {
+        this.sendgrid = sendgrid;
+        this.mailOutboxGateway = mailOutboxGateway;
+        this.guard = guards.forDependency(DEPENDENCY);
+    }
+
+    @Override
+    public String sendMail(MailRequest mailRequest) {
+        try {
+            return guard.call(() -> sendgrid.sendMail(mailRequest));
+        } catch (ServiceUnavailableException e) {
+            return defer(mailRequest.getTo(), mailRequest.getSubject(), mailRequest.getBody(), e);
+        }
+    }
+
+    @Override
+    public String sendMailWithTemplate(String to, String subject, String body) {
+        try {
+            return guard.call(() -> sendgrid.sendMailWithTemplate(to, subject, body));
+        } catch (ServiceUnavailableException e) {
+            return defer(to, subject, body, e);
+        }
+    }
+
+    @Override
+    public String sendBatchWithTemplate(List<MailRequest> mailRequests) {
+        return guard.call(() -> sendgrid.sendBatchWithTemplate(mailRequests));
+    }
+
+    private String defer(String to, String subject, String body, ServiceUnavailableException e) {
+        if (!DependencyGuard.isRejection(e)) {
+            throw e;
+        }
+        log.warn("Could not send a mail to {}, queueing it in the outbox: {}", to, e.getMessage());
+        mailOutboxGateway.enqueue(OutboxMail.builder()
+                .to(to)
+                .subject(subject)
+                .body(body)
+                .build());
+        return "";
+    }
+}
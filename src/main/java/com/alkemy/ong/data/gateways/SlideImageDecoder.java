@@ -0,0 +1,90 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.domain.cloud.CloudGateway;
+import com.alkemy.ong.domain.exceptions.WebRequestException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+
+/**
+ * Uploads the image of a slide, sent as a base64 data URI, decoding it while the upload reads it
+ * instead of decoding the whole payload into a byte array first.
+ */
+final class SlideImageDecoder {
+
+    private SlideImageDecoder() {
+    }
+
+    static String decodeAndUpload(String image, CloudGateway cloudGateway) {
+        String dataType = "image/jpeg";
+        int start = 0;
+        if (image.startsWith("data:")) {
+            int separator = image.indexOf(";base64,");
+            if (separator < 0) {
+                throw new WebRequestException("The image must be base64 encoded.");
+            }
+            dataType = image.substring("data:".length(), separator);
+            start = separator + ";base64,".length();
+        }
+        if (!"image/png".equals(dataType) && !"image/jpeg".equals(dataType)) {
+            throw new WebRequestException("The image must be a png or jpeg.");
+        }
+        String fileName = System.currentTimeMillis() + "-slide." + ("image/png".equals(dataType) ? "png" : "jpeg");
+        try (InputStream input = Base64.getDecoder().wrap(new AsciiInputStream(image, start))) {
+            return cloudGateway.upload(input, decodedLength(image, start), dataType, fileName);
+        } catch (IOException e) {
+            throw new WebRequestException("The image could not be decoded.");
+        }
+    }
+
+    private static long decodedLength(CharSequence base64, int start) {
+        int end = base64.length();
+        int padding = 0;
+        while (end > start && base64.charAt(end - 1) == '=') {
+            end--;
+            padding++;
+        }
+        for (int i = start; i < end; i++) {
+            char c = base64.charAt(i);
+            if (!(c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '+' || c == '/')) {
+                throw new WebRequestException("The image must be base64 encoded.");
+            }
+        }
+        if (padding > 2 || (end - start + padding) % 4 != 0) {
+            throw new WebRequestException("The image must be base64 encoded.");
+        }
+        return (long) (end - start + padding) / 4 * 3 - padding;
+    }
+
+    private static class AsciiInputStream extends InputStream {
+
+        private final CharSequence chars;
+        private int position;
+
+        AsciiInputStream(CharSequence chars, int start) {
+            this.chars = chars;
+            this.position = start;
+        }
+
+        @Override
+        public int read() {
+            return position < chars.length() ? chars.charAt(position++) & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            int count = Math.min(length, chars.length() - position);
+            if (count <= 0) {
+                return -1;
+            }
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (byte) chars.charAt(position++);
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.alkemy.ong.data.pagination;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class ApproximateTotalCache {
+
+    private final Map<String, Supplier<Long>> counters = new ConcurrentHashMap<>();
+    private final Map<String, Long> totals = new ConcurrentHashMap<>();
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "approximate-total-refresher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public Long get(String resource, Supplier<Long> counter) {
+        if (counters.putIfAbsent(resource, counter) == null) {
+            refresher.execute(() -> refresh(resource));
+        }
+        return totals.get(resource);
+    }
+
+    @Scheduled(fixedDelayString = "${pagination.approximate-total.refresh-interval:300000}")
+    public void refreshAll() {
+        counters.keySet().forEach(this::refresh);
+    }
+
+    private void refresh(String resource) {
+        try {
+            totals.put(resource, counters.get(resource).get());
+        } catch (RuntimeException e) {
+            log.warn("Could not refresh the approximate total of {}", resource, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refresher.shutdownNow();
+    }
+}
@@ -0,0 +1,27 @@
+package com.alkemy.ong.data.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class Cursor {
+
+    private final Long id;
+    private final LocalDateTime createdAt;
+    private final boolean backward;
+
+    public Cursor(Long id, boolean backward) {
+        this(id, null, backward);
+    }
+
+    public static Cursor first() {
+        return new Cursor(null, false);
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+}
@@ -13,4 +13,7 @@ public class PageModel<T> {
     private List<T> body;
     private String nextPage;
     private String previousPage;
+    private String nextCursor;
+    private String previousCursor;
+    private Long approximateTotal;
 }
@@ -1,38 +1,49 @@
 package com.alkemy.ong.data.pagination;
 
-import org.modelmapper.ModelMapper;
+import com.alkemy.ong.configuration.MapperRegistry;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static java.util.stream.Collectors.toList;
 
 @Component
 public class PageModelMapper<T, S> {
 
-    private final ModelMapper modelMapper;
+    private final MapperRegistry mapperRegistry;
 
-    public PageModelMapper(ModelMapper modelMapper){
-        this.modelMapper=modelMapper;
+    public PageModelMapper(MapperRegistry mapperRegistry){
+        this.mapperRegistry=mapperRegistry;
+    }
+
+    public void register(Class<S> entityClass, Class<T> modelClass, Function<S, T> mapper){
+        mapperRegistry.register(entityClass, modelClass, mapper);
     }
 
     public PageModel<T> toPageModel(PageModel<S> pageEntity,Class<T> modelClass){
         PageModel<T> pageModel = new PageModel<T>();
 
-        List<T> bodyModel = pageEntity.getBody()
-                .stream()
-                .map(e->toModel(e,modelClass))
-                .collect(toList());
+        List<S> bodyEntity = pageEntity.getBody();
+        List<T> bodyModel = bodyEntity.isEmpty()
+                ? new ArrayList<>()
+                : bodyEntity.stream()
+                        .map(mapperRegistry.<S, T>mapperFor(bodyEntity.get(0).getClass(), modelClass))
+                        .collect(toList());
 
         pageModel.setNextPage(pageEntity.getNextPage());
         pageModel.setPreviousPage(pageEntity.getPreviousPage());
+        pageModel.setNextCursor(pageEntity.getNextCursor());
+        pageModel.setPreviousCursor(pageEntity.getPreviousCursor());
+        pageModel.setApproximateTotal(pageEntity.getApproximateTotal());
         pageModel.setBody(bodyModel);
 
         return pageModel;
     }
 
     public T toModel (S entity,Class<T> modelClass){
-        return modelMapper.map(entity,modelClass);
+        return mapperRegistry.map(entity,modelClass);
     }
 
-}
\ No newline at end of file
+}
@@ -2,8 +2,21 @@ package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.ActivityEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static com.alkemy.ong.data.utils.ExportUtils.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface ActivityRepository extends JpaRepository<ActivityEntity, Long> {
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT a FROM ActivityEntity a ORDER BY a.id")
+    Stream<ActivityEntity> streamAllBy();
 }
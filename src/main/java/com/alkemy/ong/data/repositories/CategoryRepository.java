@@ -1,5 +1,9 @@
 package com.alkemy.ong.data.repositories;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,4 +12,9 @@ import com.alkemy.ong.data.entities.CategoryEntity;
 @Repository
 public interface CategoryRepository extends JpaRepository<CategoryEntity, Long> {
 
+	List<CategoryEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+	List<CategoryEntity> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+	Slice<CategoryEntity> findAllBy(Pageable pageable);
 }
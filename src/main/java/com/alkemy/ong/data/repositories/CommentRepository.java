@@ -1,13 +1,56 @@
 package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.CommentEntity;
-import com.alkemy.ong.domain.comments.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static com.alkemy.ong.data.utils.ExportUtils.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 @Repository
 public interface CommentRepository extends JpaRepository<CommentEntity, Long> {
+
+    Slice<CommentEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT c FROM CommentEntity c ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentEntity> findNewest(Pageable pageable);
+
+    @Query("SELECT c FROM CommentEntity c WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentEntity> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c FROM CommentEntity c WHERE c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentEntity> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    List<CommentEntity> findByNewsEntityNewsId(Long newsId, Pageable pageable);
+
+    @Query("SELECT c FROM CommentEntity c WHERE c.newsEntity.newsId = :newsId " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentEntity> findByNewsOlderThan(@Param("newsId") Long newsId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c FROM CommentEntity c WHERE c.newsEntity.newsId = :newsId " +
+            "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentEntity> findByNewsNewerThan(@Param("newsId") Long newsId, @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT c FROM CommentEntity c ORDER BY c.createdAt DESC")
+    Stream<CommentEntity> streamAllBy();
+
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(*), UNIX_TIMESTAMP(MAX(updated_at)), SUM(UNIX_TIMESTAMP(updated_at))) " +
+            "FROM comments WHERE deleted = 0", nativeQuery = true)
+    String findVersion();
 }
@@ -1,10 +1,40 @@
 package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.ContactEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.alkemy.ong.data.utils.ExportUtils.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface ContactRepository extends JpaRepository<ContactEntity, Long> {
 
+    Slice<ContactEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT c FROM ContactEntity c ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactEntity> findNewest(Pageable pageable);
+
+    @Query("SELECT c FROM ContactEntity c WHERE c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ContactEntity> findOlderThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT c FROM ContactEntity c WHERE c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<ContactEntity> findNewerThan(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT c FROM ContactEntity c ORDER BY c.id")
+    Stream<ContactEntity> streamAllBy();
 }
@@ -0,0 +1,27 @@
+package com.alkemy.ong.data.repositories;
+
+import com.alkemy.ong.data.entities.MailOutboxEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutboxEntity, Long> {
+
+    /**
+     * Marks up to {@code limit} due rows with {@code claim} and pushes them past {@code leaseUntil}. A concurrent
+     * claim waits for the row lock and then no longer sees the rows as due, without needing {@code SKIP LOCKED}.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE mail_outbox SET claimed_by = :claim, next_attempt_at = :leaseUntil " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= :now ORDER BY id LIMIT :limit", nativeQuery = true)
+    int claimDue(@Param("claim") String claim, @Param("now") LocalDateTime now,
+                 @Param("leaseUntil") LocalDateTime leaseUntil, @Param("limit") int limit);
+
+    List<MailOutboxEntity> findByClaimedByOrderByIdAsc(String claimedBy);
+}
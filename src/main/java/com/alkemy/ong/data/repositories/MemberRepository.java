@@ -1,9 +1,13 @@
 package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.MemberEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,4 +15,11 @@ public interface MemberRepository extends JpaRepository<MemberEntity,Long> {
     MemberEntity save(MemberEntity member);
     Optional<MemberEntity> findById(Long aLong);
     void deleteById(Long id);
+    List<MemberEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<MemberEntity> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+    Slice<MemberEntity> findAllBy(Pageable pageable);
+
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(*), UNIX_TIMESTAMP(MAX(updatedat)), SUM(UNIX_TIMESTAMP(updatedat))) " +
+            "FROM members WHERE deleted = 0", nativeQuery = true)
+    String findVersion();
 }
@@ -1,10 +1,51 @@
 package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.NewsEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.alkemy.ong.data.utils.ExportUtils.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface NewsRepository extends JpaRepository<NewsEntity, Long> {
 
+    List<NewsEntity> findByNewsIdGreaterThanOrderByNewsIdAsc(Long newsId, Pageable pageable);
+
+    List<NewsEntity> findByNewsIdLessThanOrderByNewsIdDesc(Long newsId, Pageable pageable);
+
+    Slice<NewsEntity> findAllBy(Pageable pageable);
+
+    @EntityGraph(attributePaths = "comments")
+    Optional<NewsEntity> findWithCommentsByNewsId(Long newsId);
+
+    @Query("SELECT c.newsEntity.newsId AS newsId, COUNT(c) AS total FROM CommentEntity c " +
+            "WHERE c.newsEntity.newsId IN :newsIds GROUP BY c.newsEntity.newsId")
+    List<CommentCount> countCommentsByNewsIds(@Param("newsIds") Collection<Long> newsIds);
+
+    interface CommentCount {
+        Long getNewsId();
+        Long getTotal();
+    }
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT n FROM NewsEntity n ORDER BY n.newsId")
+    Stream<NewsEntity> streamAllBy();
+
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(*), UNIX_TIMESTAMP(MAX(updated_at)), SUM(UNIX_TIMESTAMP(updated_at))) " +
+            "FROM news WHERE deleted = 0", nativeQuery = true)
+    String findVersion();
 }
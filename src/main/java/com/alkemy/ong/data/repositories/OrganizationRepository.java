@@ -1,9 +1,20 @@
 package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.OrganizationEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 @Repository
 public interface OrganizationRepository extends JpaRepository<OrganizationEntity, Long> {
+
+    @EntityGraph(attributePaths = "slidesEntityList")
+    Optional<OrganizationEntity> findWithSlidesByIdOrganization(Long idOrganization);
+
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(*), UNIX_TIMESTAMP(MAX(updated_at)), SUM(UNIX_TIMESTAMP(updated_at))) " +
+            "FROM organizations WHERE deleted = 0", nativeQuery = true)
+    String findVersion();
 }
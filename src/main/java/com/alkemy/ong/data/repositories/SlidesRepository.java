@@ -2,8 +2,36 @@ package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.SlidesEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
-public interface SlidesRepository extends JpaRepository<SlidesEntity, Long> {
-}
\ No newline at end of file
+public interface SlidesRepository extends JpaRepository<SlidesEntity, Long>, SlidesRepositoryCustom {
+
+    @Query(value = "SELECT MAX(active_order) FROM slides WHERE organization_id = :idOrganization", nativeQuery = true)
+    Integer findMaxOrder(@Param("idOrganization") Long idOrganization);
+
+    @Query(value = "SELECT COUNT(*) FROM slides WHERE organization_id = :idOrganization AND active_order = :order", nativeQuery = true)
+    long countByOrganizationAndOrder(@Param("idOrganization") Long idOrganization, @Param("order") Integer order);
+
+    default boolean existsByOrganizationAndOrder(Long idOrganization, Integer order) {
+        return countByOrganizationAndOrder(idOrganization, order) > 0;
+    }
+
+    @Query("SELECT s.idSlides FROM SlidesEntity s WHERE s.organization.idOrganization = :idOrganization")
+    List<Long> findIdsByOrganization(@Param("idOrganization") Long idOrganization);
+
+    List<SlidesEntity> findByOrganizationIdOrganizationOrderByOrderAsc(Long idOrganization);
+
+    @Modifying
+    @Query(value = "UPDATE slides SET slide_order = -slide_order WHERE organization_id = :idOrganization AND deleted = 0", nativeQuery = true)
+    int parkOrders(@Param("idOrganization") Long idOrganization);
+
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(*), UNIX_TIMESTAMP(MAX(updated_at)), SUM(UNIX_TIMESTAMP(updated_at))) " +
+            "FROM slides WHERE deleted = 0", nativeQuery = true)
+    String findVersion();
+}
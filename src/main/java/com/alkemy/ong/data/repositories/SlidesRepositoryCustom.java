@@ -0,0 +1,7 @@
+package com.alkemy.ong.data.repositories;
+
+import java.util.List;
+
+public interface SlidesRepositoryCustom {
+    void renumber(Long idOrganization, List<Long> orderedSlideIds);
+}
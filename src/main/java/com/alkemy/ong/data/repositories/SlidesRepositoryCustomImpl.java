@@ -0,0 +1,24 @@
+package com.alkemy.ong.data.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SlidesRepositoryCustomImpl implements SlidesRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SlidesRepositoryCustomImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void renumber(Long idOrganization, List<Long> orderedSlideIds) {
+        List<Object[]> rows = new ArrayList<>(orderedSlideIds.size());
+        for (int i = 0; i < orderedSlideIds.size(); i++) {
+            rows.add(new Object[]{i + 1, orderedSlideIds.get(i), idOrganization});
+        }
+        jdbcTemplate.batchUpdate("UPDATE slides SET slide_order = ? WHERE id_slides = ? AND organization_id = ?", rows);
+    }
+}
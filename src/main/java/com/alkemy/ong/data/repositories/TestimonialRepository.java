@@ -2,8 +2,25 @@ package com.alkemy.ong.data.repositories;
 
 import com.alkemy.ong.data.entities.TestimonialEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.stream.Stream;
+
+import static com.alkemy.ong.data.utils.ExportUtils.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 @Repository
 public interface TestimonialRepository extends JpaRepository<TestimonialEntity, Long> {
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT t FROM TestimonialEntity t ORDER BY t.id")
+    Stream<TestimonialEntity> streamAllBy();
+
+    @Query(value = "SELECT CONCAT_WS(':', COUNT(*), UNIX_TIMESTAMP(MAX(updated_at)), SUM(UNIX_TIMESTAMP(updated_at))) " +
+            "FROM testimonials WHERE deleted = 0", nativeQuery = true)
+    String findVersion();
 }
@@ -4,13 +4,34 @@ import com.alkemy.ong.data.entities.UserEntity;
 
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
+import java.util.stream.Stream;
+
+import static com.alkemy.ong.data.utils.ExportUtils.EXPORT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
 public interface UserRepository extends JpaRepository<UserEntity,Long> {
     List<UserEntity> findAll();
     UserEntity save(UserEntity userEntity);
 	Optional<UserEntity> findByEmail(String email);
     Optional<UserEntity> findById(Long id);
+    List<UserEntity> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+    List<UserEntity> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+    Slice<UserEntity> findAllBy(Pageable pageable);
+
+    @Query("SELECT u.roleEntity.id FROM UserEntity u WHERE u.email = :email")
+    Optional<Long> findRoleIdByEmail(@Param("email") String email);
+
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("SELECT u FROM UserEntity u JOIN FETCH u.roleEntity ORDER BY u.id")
+    Stream<UserEntity> streamAllBy();
 }
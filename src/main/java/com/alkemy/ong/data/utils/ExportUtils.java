@@ -0,0 +1,34 @@
+package com.alkemy.ong.data.utils;
+
+import javax.persistence.EntityManager;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public class ExportUtils {
+
+    /**
+     * Integer.MIN_VALUE makes the MySQL driver stream the export queries row by row instead of buffering the
+     * whole result set, without switching every other query to server-side cursors. The connection cannot run
+     * another statement until the stream is closed, so the rows must not touch lazy associations.
+     */
+    public static final String EXPORT_FETCH_SIZE = "-2147483648";
+
+    private static final int CLEAR_EVERY = 500;
+
+    /**
+     * Maps and hands over each streamed row, clearing the persistence context as it goes so the entities
+     * already written do not pile up for the rest of the export.
+     */
+    public static <E, M> void forEachRow(Stream<E> rows, EntityManager entityManager, Function<E, M> toModel, Consumer<M> consumer) {
+        int[] count = {0};
+        try (rows) {
+            rows.forEach(row -> {
+                consumer.accept(toModel.apply(row));
+                if (++count[0] % CLEAR_EVERY == 0) {
+                    entityManager.clear();
+                }
+            });
+        }
+    }
+}
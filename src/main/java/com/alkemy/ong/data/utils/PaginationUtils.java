@@ -1,30 +1,133 @@
 package com.alkemy.ong.data.utils;
 
+import com.alkemy.ong.data.pagination.Cursor;
 import com.alkemy.ong.data.pagination.PageModel;
 import com.alkemy.ong.domain.exceptions.WebRequestException;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 public class PaginationUtils {
 
     public static final Integer DEFAULT_PAGE_SIZE = 10;
 
-    public static PageModel setPagesNumbers(Page pageEntity, String path) {
+    public static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private static final String FORWARD = "a";
+    private static final String BACKWARD = "b";
+
+    public static PageModel setPagesNumbers(Slice pageEntity, String path) {
         PageModel modelPage = new PageModel();
-        if ((pageEntity.getNumber()+1) <= pageEntity.getTotalPages()) {
-            if (pageEntity.hasNext()) {
-                modelPage.setNextPage(path.concat(String.valueOf(pageEntity.getNumber() + 1)));
-            } else {
-                modelPage.setNextPage("This is the last page");
-            }
-            if (pageEntity.hasPrevious()) {
-                modelPage.setPreviousPage(path.concat(String.valueOf(pageEntity.getNumber() - 1)));
-            } else {
-                modelPage.setPreviousPage("This is the first page");
-            }
-        } else {
+        if (!pageEntity.hasContent() && pageEntity.getNumber() > 0) {
             throw new WebRequestException("The page does not exist");
         }
+        if (pageEntity.hasNext()) {
+            modelPage.setNextPage(path.concat(String.valueOf(pageEntity.getNumber() + 1)));
+        } else {
+            modelPage.setNextPage("This is the last page");
+        }
+        if (pageEntity.hasPrevious()) {
+            modelPage.setPreviousPage(path.concat(String.valueOf(pageEntity.getNumber() - 1)));
+        } else {
+            modelPage.setPreviousPage("This is the first page");
+        }
         modelPage.setBody(pageEntity.getContent());
         return modelPage;
     }
+
+    public static Pageable seekPage() {
+        return PageRequest.of(0, DEFAULT_PAGE_SIZE + 1);
+    }
+
+    public static Pageable seekPage(Sort sort) {
+        return PageRequest.of(0, DEFAULT_PAGE_SIZE + 1, sort);
+    }
+
+    public static Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Cursor.first();
+        }
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), UTF_8).split(":", 3);
+            if (position.length < 2 || !(FORWARD.equals(position[0]) || BACKWARD.equals(position[0]))) {
+                throw new WebRequestException("The cursor is not valid");
+            }
+            LocalDateTime createdAt = position.length == 3 ? LocalDateTime.parse(position[2]) : null;
+            return new Cursor(Long.valueOf(position[1]), createdAt, BACKWARD.equals(position[0]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new WebRequestException("The cursor is not valid");
+        }
+    }
+
+    /**
+     * Decodes a cursor of a listing sorted by {@link #NEWEST_FIRST}, which must carry the creation date
+     * of the row it points at besides its id.
+     */
+    public static Cursor decodeTimeCursor(String cursor) {
+        Cursor position = decodeCursor(cursor);
+        if (!position.isFirst() && position.getCreatedAt() == null) {
+            throw new WebRequestException("The cursor is not valid");
+        }
+        return position;
+    }
+
+    public static String encodeCursor(Long id, boolean backward) {
+        String position = (backward ? BACKWARD : FORWARD) + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(UTF_8));
+    }
+
+    public static String encodeCursor(Long id, LocalDateTime createdAt, boolean backward) {
+        String position = (backward ? BACKWARD : FORWARD) + ":" + id + ":" + createdAt;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(UTF_8));
+    }
+
+    public static <T> PageModel<T> setCursors(List<T> rows, Cursor cursor, Function<T, Long> idExtractor, String path) {
+        return setCursors(rows, cursor, (row, backward) -> encodeCursor(idExtractor.apply(row), backward), path);
+    }
+
+    public static <T> PageModel<T> setCursors(List<T> rows, Cursor cursor, Function<T, Long> idExtractor,
+                                              Function<T, LocalDateTime> createdAtExtractor, String path) {
+        return setCursors(rows, cursor,
+                (row, backward) -> encodeCursor(idExtractor.apply(row), createdAtExtractor.apply(row), backward), path);
+    }
+
+    private static <T> PageModel<T> setCursors(List<T> rows, Cursor cursor, BiFunction<T, Boolean, String> encoder, String path) {
+        boolean hasMore = rows.size() > DEFAULT_PAGE_SIZE;
+        List<T> body = new ArrayList<>(hasMore ? rows.subList(0, DEFAULT_PAGE_SIZE) : rows);
+        if (cursor.isBackward()) {
+            Collections.reverse(body);
+        }
+        boolean hasNext = cursor.isBackward() || hasMore;
+        boolean hasPrevious = cursor.isBackward() ? hasMore : !cursor.isFirst();
+
+        PageModel<T> modelPage = new PageModel<>();
+        if (hasNext && !body.isEmpty()) {
+            String nextCursor = encoder.apply(body.get(body.size() - 1), false);
+            modelPage.setNextCursor(nextCursor);
+            modelPage.setNextPage(path.concat(nextCursor));
+        } else {
+            modelPage.setNextPage("This is the last page");
+        }
+        if (hasPrevious && !body.isEmpty()) {
+            String previousCursor = encoder.apply(body.get(0), true);
+            modelPage.setPreviousCursor(previousCursor);
+            modelPage.setPreviousPage(path.concat(previousCursor));
+        } else {
+            modelPage.setPreviousPage("This is the first page");
+        }
+        modelPage.setBody(body);
+        return modelPage;
+    }
 }
@@ -1,8 +1,11 @@
 package com.alkemy.ong.domain.activities;
 
+import java.util.List;
+
 public interface ActivityGateway {
 
     Activity save(Activity activity);
+    List<Activity> saveAll(List<Activity> activities);
     Activity findById(Long id);
     Activity update (Long id, Activity activity);
 }
@@ -1,6 +1,9 @@
 package com.alkemy.ong.domain.activities;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 public class ActivityService {
@@ -15,6 +18,11 @@ public class ActivityService {
             return activityGateway.save(activity);
     }
 
+    @Transactional
+    public List<Activity> saveActivities(List<Activity> activities) {
+        return activityGateway.saveAll(activities);
+    }
+
     public Activity updateActivity(Long id, Activity activity) {
         return activityGateway.update(id, activity);
     }
@@ -5,6 +5,8 @@ import com.alkemy.ong.data.pagination.PageModel;
 public interface CategoryGateway {
 
 	PageModel<Category> findAll(int pageNumber);
+
+	PageModel<Category> findAllByCursor(String cursor);
 	
 	Category findById(Long id);
 	
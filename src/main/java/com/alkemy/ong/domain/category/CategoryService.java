@@ -17,6 +17,10 @@ public class CategoryService {
 		return categoryGateway.findAll(pageNumber);
 	}
 	
+	public PageModel<Category> findAllByCursor(String cursor) {
+		return categoryGateway.findAllByCursor(cursor);
+	}
+
 	public Category findById(Long id) {
 		return categoryGateway.findById(id);
 	}
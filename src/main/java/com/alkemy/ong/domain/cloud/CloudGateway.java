@@ -2,8 +2,13 @@ package com.alkemy.ong.domain.cloud;
 
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.util.Map;
+
 public interface CloudGateway {
 
     String uploadFile(MultipartFile multipartFile);
+    String upload(InputStream inputStream, long contentLength, String contentType, String key);
     String deleteFileFromS3Bucket(String fileUrl);
+    Map<String, String> srcset(String fileUrl);
 }
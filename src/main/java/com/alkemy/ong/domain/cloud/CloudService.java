@@ -3,6 +3,8 @@ package com.alkemy.ong.domain.cloud;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Map;
+
 @Service
 public class CloudService {
 
@@ -19,4 +21,8 @@ public class CloudService {
     public String deleteFile(String fileUrl) {
         return cloudGateway.deleteFileFromS3Bucket(fileUrl);
     }
+
+    public Map<String, String> srcset(String fileUrl) {
+        return cloudGateway.srcset(fileUrl);
+    }
 }
\ No newline at end of file
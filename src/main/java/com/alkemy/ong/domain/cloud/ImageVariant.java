@@ -0,0 +1,32 @@
+package com.alkemy.ong.domain.cloud;
+
+import lombok.Getter;
+
+@Getter
+public enum ImageVariant {
+    THUMBNAIL("thumbnail", 160),
+    MEDIUM("medium", 640),
+    LARGE("large", 1280);
+
+    private final String suffix;
+    private final int width;
+
+    ImageVariant(String suffix, int width) {
+        this.suffix = suffix;
+        this.width = width;
+    }
+
+    public String keyFor(String key) {
+        return prefixFor(key) + suffix + ".jpg";
+    }
+
+    public static String prefixFor(String key) {
+        int extension = key.lastIndexOf('.');
+        String base = extension > key.lastIndexOf('/') && extension > 0 ? key.substring(0, extension) : key;
+        return base + "-";
+    }
+
+    public String descriptor() {
+        return width + "w";
+    }
+}
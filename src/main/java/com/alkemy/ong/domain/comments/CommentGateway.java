@@ -1,6 +1,8 @@
 package com.alkemy.ong.domain.comments;
 
-import java.util.List;
+import com.alkemy.ong.data.pagination.PageModel;
+
+import java.util.function.Consumer;
 
 public interface CommentGateway {
 
@@ -10,7 +12,13 @@ public interface CommentGateway {
 
     Comment findById(Long id);
 
-    List<Comment> findAll();
+    PageModel<Comment> findAll(int pageNumber);
+
+    PageModel<Comment> findAllByCursor(String cursor);
+
+    PageModel<Comment> findByNewsId(Long newsId, String cursor);
+
+    void exportAll(Consumer<Comment> consumer);
 
     void delete(Long id);
 }
\ No newline at end of file
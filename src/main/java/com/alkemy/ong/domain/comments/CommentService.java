@@ -1,8 +1,11 @@
 package com.alkemy.ong.domain.comments;
 
-import java.util.List;
+import com.alkemy.ong.data.pagination.PageModel;
+
+import java.util.function.Consumer;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class CommentService {
@@ -17,8 +20,21 @@ public class CommentService {
         return commentGateway.save(comment);
     }
 
-    public List<Comment> findAll() {
-        return commentGateway.findAll();
+    public PageModel<Comment> findAll(int pageNumber) {
+        return commentGateway.findAll(pageNumber);
+    }
+
+    public PageModel<Comment> findAllByCursor(String cursor) {
+        return commentGateway.findAllByCursor(cursor);
+    }
+
+    public PageModel<Comment> findByNewsId(Long newsId, String cursor) {
+        return commentGateway.findByNewsId(newsId, cursor);
+    }
+
+    @Transactional(readOnly = true)
+    public void exportComments(Consumer<Comment> consumer) {
+        commentGateway.exportAll(consumer);
     }
 
     public Comment findById(Long id) {
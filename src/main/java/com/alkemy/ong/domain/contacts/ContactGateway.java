@@ -1,10 +1,14 @@
 package com.alkemy.ong.domain.contacts;
 
-import java.util.List;
+import com.alkemy.ong.data.pagination.PageModel;
+
+import java.util.function.Consumer;
 
 public interface ContactGateway {
 
-  List<Contact> findAll();
+  PageModel<Contact> findAll(int pageNumber);
+  PageModel<Contact> findAllByCursor(String cursor);
   Contact save(Contact contact);
+  void exportAll(Consumer<Contact> consumer);
 
 }
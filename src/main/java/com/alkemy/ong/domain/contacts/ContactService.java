@@ -1,23 +1,45 @@
 package com.alkemy.ong.domain.contacts;
 
+import com.alkemy.ong.data.pagination.PageModel;
+import com.alkemy.ong.domain.mail.MailService;
+import com.alkemy.ong.domain.mail.MailTemplateEngine;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class ContactService {
 
     private final ContactGateway contactGateway;
+    private final MailService mailService;
 
-    public ContactService(ContactGateway contactGateway){
+    private final String SUBJECT = "Your contact details have been added!";
+
+    public ContactService(ContactGateway contactGateway, MailService mailService){
         this.contactGateway = contactGateway;
+        this.mailService = mailService;
     }
 
+    @Transactional
     public Contact saveContact(Contact contact){
-        return contactGateway.save(contact);
+        Contact savedContact = contactGateway.save(contact);
+        mailService.enqueueTemplate(contact.getEmail(), SUBJECT, MailTemplateEngine.CONTACT,
+                Map.of("message", contact.getMessage()));
+        return savedContact;
+    }
+
+    public PageModel<Contact> getContacts(int pageNumber){
+        return contactGateway.findAll(pageNumber);
+    }
+
+    public PageModel<Contact> getContactsByCursor(String cursor){
+        return contactGateway.findAllByCursor(cursor);
     }
 
-    public List<Contact> getContacts(){
-        return contactGateway.findAll();
+    @Transactional(readOnly = true)
+    public void exportContacts(Consumer<Contact> consumer){
+        contactGateway.exportAll(consumer);
     }
 }
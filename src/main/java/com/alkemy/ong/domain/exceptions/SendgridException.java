@@ -1,7 +1,23 @@
 package com.alkemy.ong.domain.exceptions;
 
 public class SendgridException extends RuntimeException {
+
+    private final int statusCode;
+
     public SendgridException(String message){
+        this(message, 0);
+    }
+
+    public SendgridException(String message, int statusCode){
         super(message);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public boolean isRejected() {
+        return statusCode >= 400 && statusCode < 500;
     }
 }
@@ -0,0 +1,7 @@
+package com.alkemy.ong.domain.mail;
+
+import java.util.List;
+
+public interface MailBatchGateway {
+    String sendBatchWithTemplate(List<MailRequest> mailRequests);
+}
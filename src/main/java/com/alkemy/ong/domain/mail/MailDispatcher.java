@@ -0,0 +1,110 @@
+package com.alkemy.ong.domain.mail;
+
+import com.alkemy.ong.domain.exceptions.SendgridException;
+import com.alkemy.ong.domain.exceptions.ServiceUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "mail.outbox.dispatcher.enabled", matchIfMissing = true)
+public class MailDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailBatchGateway mailGateway;
+    private final MailOutboxGateway mailOutboxGateway;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration claimLease;
+
+    public MailDispatcher(MailBatchGateway mailGateway, MailOutboxGateway mailOutboxGateway,
+                          @Value("${mail.outbox.batch-size:100}") int batchSize,
+                          @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+                          @Value("${mail.outbox.initial-backoff-seconds:30}") long initialBackoffSeconds,
+                          @Value("${mail.outbox.claim-lease-seconds:300}") long claimLeaseSeconds) {
+        this.mailGateway = mailGateway;
+        this.mailOutboxGateway = mailOutboxGateway;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = Duration.ofSeconds(initialBackoffSeconds);
+        this.claimLease = Duration.ofSeconds(claimLeaseSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${mail.outbox.dispatch-interval:5000}")
+    public void dispatch() {
+        List<OutboxMail> batch = mailOutboxGateway.claimDue(batchSize, LocalDateTime.now().plus(claimLease));
+        if (batch.isEmpty()) {
+            return;
+        }
+        send(batch);
+        mailOutboxGateway.update(batch);
+    }
+
+    /**
+     * A batch SendGrid rejects is resent one mail at a time, so only the mails it actually refuses count an attempt.
+     */
+    private void send(List<OutboxMail> batch) {
+        try {
+            mailGateway.sendBatchWithTemplate(batch.stream().map(this::toRequest).collect(toList()));
+            batch.forEach(mail -> mail.setStatus(OutboxStatus.SENT));
+        } catch (ServiceUnavailableException e) {
+            log.warn("Postponing a batch of {} mails: {}", batch.size(), e.getMessage());
+            batch.forEach(this::postpone);
+        } catch (SendgridException e) {
+            if (e.isRejected() && batch.size() > 1) {
+                log.warn("SendGrid rejected a batch of {} mails, sending them one by one", batch.size());
+                batch.forEach(mail -> send(List.of(mail)));
+            } else {
+                fail(batch, e);
+            }
+        } catch (RuntimeException e) {
+            fail(batch, e);
+        }
+    }
+
+    private void fail(List<OutboxMail> batch, RuntimeException e) {
+        log.warn("Could not send a batch of {} mails", batch.size(), e);
+        batch.forEach(mail -> retryOrBury(mail, e));
+    }
+
+    private void retryOrBury(OutboxMail mail, RuntimeException e) {
+        int attempts = mail.getAttempts() + 1;
+        mail.setAttempts(attempts);
+        mail.setLastError(truncate(String.valueOf(e.getMessage())));
+        if (attempts >= maxAttempts) {
+            mail.setStatus(OutboxStatus.DEAD);
+        } else {
+            mail.setNextAttemptAt(LocalDateTime.now().plus(initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 16))));
+        }
+    }
+
+    /**
+     * SendGrid being unavailable is not the mail's fault, so the attempt is not counted towards burying it.
+     */
+    private void postpone(OutboxMail mail) {
+        mail.setNextAttemptAt(LocalDateTime.now().plus(initialBackoff));
+    }
+
+    private MailRequest toRequest(OutboxMail mail) {
+        return MailRequest.builder()
+                .to(mail.getTo())
+                .subject(mail.getSubject())
+                .body(mail.getBody())
+                .build();
+    }
+
+    private static String truncate(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
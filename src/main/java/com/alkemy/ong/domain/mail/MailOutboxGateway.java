@@ -0,0 +1,10 @@
+package com.alkemy.ong.domain.mail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxGateway {
+    void enqueue(OutboxMail mail);
+    List<OutboxMail> claimDue(int batchSize, LocalDateTime leaseUntil);
+    void update(List<OutboxMail> mails);
+}
@@ -2,13 +2,19 @@ package com.alkemy.ong.domain.mail;
 
 import org.springframework.stereotype.Service;
 
+import java.util.Map;
+
 @Service
 public class MailService {
 
     private final MailGateway mailGateway;
+    private final MailOutboxGateway mailOutboxGateway;
+    private final MailTemplateEngine mailTemplateEngine;
 
-    public MailService(MailGateway mailGateway) {
+    public MailService(MailGateway mailGateway, MailOutboxGateway mailOutboxGateway, MailTemplateEngine mailTemplateEngine) {
         this.mailGateway = mailGateway;
+        this.mailOutboxGateway = mailOutboxGateway;
+        this.mailTemplateEngine = mailTemplateEngine;
     }
 
     public String sendMail(MailRequest mailRequest){
@@ -18,4 +24,16 @@ public class MailService {
     public String sendMailWithTemplate(String to, String subject, String body) {
         return mailGateway.sendMailWithTemplate(to, subject, body);
     }
+
+    public void enqueueMailWithTemplate(String to, String subject, String body) {
+        mailOutboxGateway.enqueue(OutboxMail.builder()
+                .to(to)
+                .subject(subject)
+                .body(body)
+                .build());
+    }
+
+    public void enqueueTemplate(String to, String subject, String template, Map<String, String> values) {
+        enqueueMailWithTemplate(to, subject, mailTemplateEngine.render(template, values));
+    }
 }
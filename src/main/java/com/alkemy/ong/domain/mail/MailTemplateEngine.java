@@ -0,0 +1,149 @@
+package com.alkemy.ong.domain.mail;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.util.HtmlUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Renders the HTML templates under {@code templates/mail}. A {@code {{name}}} placeholder is HTML-escaped, so user
+ * input such as a name or a contact message cannot add markup to the mail; {@code {{{name}}}} inserts the value as
+ * is and is only meant for HTML the application rendered itself, like the body slot of the layout.
+ */
+@Component
+public class MailTemplateEngine {
+
+    public static final String LAYOUT = "layout";
+    public static final String REGISTRATION = "registration";
+    public static final String CONTACT = "contact";
+
+    private static final String TEMPLATE_LOCATION = "templates/mail/%s.html";
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final String RAW_OPEN = "{{{";
+    private static final String RAW_CLOSE = "}}}";
+    private static final int POOL_SIZE = 64;
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int MAX_POOLED_BUFFER_SIZE = 256 * 1024;
+
+    private final Map<String, CompiledTemplate> templates = new ConcurrentHashMap<>();
+    private final BlockingQueue<ByteArrayOutputStream> buffers = new ArrayBlockingQueue<>(POOL_SIZE);
+
+    public MailTemplateEngine() {
+        for (String name : List.of(LAYOUT, REGISTRATION, CONTACT)) {
+            templates.put(name, load(name));
+        }
+    }
+
+    public String render(String name, Map<String, String> values) {
+        ByteArrayOutputStream buffer = borrow();
+        try {
+            template(name).writeTo(buffer, values);
+            return buffer.toString(UTF_8);
+        } finally {
+            release(buffer);
+        }
+    }
+
+    public byte[] renderBytes(String name, Map<String, String> values) {
+        ByteArrayOutputStream buffer = borrow();
+        try {
+            template(name).writeTo(buffer, values);
+            return buffer.toByteArray();
+        } finally {
+            release(buffer);
+        }
+    }
+
+    public String renderInLayout(String name, Map<String, String> values) {
+        return render(LAYOUT, Map.of("body", render(name, values)));
+    }
+
+    private CompiledTemplate template(String name) {
+        return templates.computeIfAbsent(name, this::load);
+    }
+
+    private ByteArrayOutputStream borrow() {
+        ByteArrayOutputStream buffer = buffers.poll();
+        return buffer != null ? buffer : new ByteArrayOutputStream(BUFFER_SIZE);
+    }
+
+    private void release(ByteArrayOutputStream buffer) {
+        if (buffer.size() <= MAX_POOLED_BUFFER_SIZE) {
+            buffer.reset();
+            buffers.offer(buffer);
+        }
+    }
+
+    private CompiledTemplate load(String name) {
+        ClassPathResource resource = new ClassPathResource(String.format(TEMPLATE_LOCATION, name));
+        if (!resource.exists()) {
+            throw new IllegalArgumentException("Mail template not found: " + name);
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            return CompiledTemplate.compile(StreamUtils.copyToString(inputStream, UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static class CompiledTemplate {
+
+        private final List<byte[]> segments;
+        private final List<String> placeholders;
+        private final List<Boolean> raw;
+
+        private CompiledTemplate(List<byte[]> segments, List<String> placeholders, List<Boolean> raw) {
+            this.segments = segments;
+            this.placeholders = placeholders;
+            this.raw = raw;
+        }
+
+        static CompiledTemplate compile(String source) {
+            List<byte[]> segments = new ArrayList<>();
+            List<String> placeholders = new ArrayList<>();
+            List<Boolean> raw = new ArrayList<>();
+            int position = 0;
+            int open;
+            while ((open = source.indexOf(OPEN, position)) >= 0) {
+                boolean unescaped = source.startsWith(RAW_OPEN, open);
+                String opening = unescaped ? RAW_OPEN : OPEN;
+                String closing = unescaped ? RAW_CLOSE : CLOSE;
+                int close = source.indexOf(closing, open + opening.length());
+                if (close < 0) {
+                    break;
+                }
+                segments.add(source.substring(position, open).getBytes(UTF_8));
+                placeholders.add(source.substring(open + opening.length(), close).trim());
+                raw.add(unescaped);
+                position = close + closing.length();
+            }
+            segments.add(source.substring(position).getBytes(UTF_8));
+            return new CompiledTemplate(segments, placeholders, raw);
+        }
+
+        void writeTo(ByteArrayOutputStream buffer, Map<String, String> values) {
+            for (int i = 0; i < placeholders.size(); i++) {
+                buffer.writeBytes(segments.get(i));
+                String value = values.get(placeholders.get(i));
+                if (value != null) {
+                    buffer.writeBytes((raw.get(i) ? value : HtmlUtils.htmlEscape(value, UTF_8.name())).getBytes(UTF_8));
+                }
+            }
+            buffer.writeBytes(segments.get(segments.size() - 1));
+        }
+    }
+}
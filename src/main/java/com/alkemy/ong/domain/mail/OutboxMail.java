@@ -0,0 +1,23 @@
+package com.alkemy.ong.domain.mail;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Builder
+public class OutboxMail {
+    private Long id;
+    private String to;
+    private String subject;
+    private String body;
+    private OutboxStatus status;
+    private Integer attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,7 @@
+package com.alkemy.ong.domain.mail;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT,
+    DEAD
+}
@@ -2,10 +2,14 @@ package com.alkemy.ong.domain.members;
 
 import com.alkemy.ong.data.pagination.PageModel;
 
+import java.util.List;
+
 public interface MemberGateway {
 
     PageModel<Member> findAll(int pageNumber);
+    PageModel<Member> findAllByCursor(String cursor);
     Member save(Member member);
+    List<Member> saveAll(List<Member> members);
     Member findById(Long id);
     void delete(Long id);
     Member update(Member member);
@@ -2,6 +2,9 @@ package com.alkemy.ong.domain.members;
 
 import com.alkemy.ong.data.pagination.PageModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 public class MemberService {
@@ -15,11 +18,21 @@ public class MemberService {
         return memberGateway.findAll(pageNumber);
     }
 
+    public PageModel<Member> findAllByCursor(String cursor){
+        return memberGateway.findAllByCursor(cursor);
+    }
+
     public Member save(Member member){
         member.setName(member.getName().trim());
         return memberGateway.save(member);
     }
 
+    @Transactional
+    public List<Member> saveAll(List<Member> members){
+        members.forEach(member -> member.setName(member.getName().trim()));
+        return memberGateway.saveAll(members);
+    }
+
     public void delete(Long id){
         memberGateway.delete(id);
     }
@@ -21,5 +21,6 @@ public class News {
     private String content;
     private String image;
     private String type;
+    private Long commentCount;
     private List<Comment> comments = new ArrayList<>();
 }
\ No newline at end of file
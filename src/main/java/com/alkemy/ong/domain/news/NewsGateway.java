@@ -5,6 +5,7 @@ import com.alkemy.ong.data.pagination.PageModel;
 public interface NewsGateway {
 
     PageModel<News> findAll(int pageNumber);
+    PageModel<News> findAllByCursor(String cursor);
     News findById(Long newsId);
     News saveNews(News news);
     News updateNews(Long newsId, News news);
@@ -16,6 +16,10 @@ public class NewsService {
         return newsGateway.findAll(pageNumber);
     }
 
+    public PageModel<News> findAllByCursor(String cursor){
+        return newsGateway.findAllByCursor(cursor);
+    }
+
     public News findById(Long newsId){
         return newsGateway.findById(newsId);
     }
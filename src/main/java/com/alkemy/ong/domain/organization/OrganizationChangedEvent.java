@@ -0,0 +1,11 @@
+package com.alkemy.ong.domain.organization;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class OrganizationChangedEvent {
+
+    private final Long idOrganization;
+}
@@ -6,15 +6,21 @@ import org.springframework.stereotype.Service;
 public class OrganizationService {
 
     private final OrganizationGateway organizationGateway;
+    private final OrganizationViewCache organizationViewCache;
 
-    public OrganizationService(OrganizationGateway organizationGateway) {
+    public OrganizationService(OrganizationGateway organizationGateway, OrganizationViewCache organizationViewCache) {
         this.organizationGateway = organizationGateway;
+        this.organizationViewCache = organizationViewCache;
     }
 
     public Organization findById(Long idOrganization){
         return organizationGateway.findById(idOrganization);
     }
 
+    public byte[] findPublicView(Long idOrganization){
+        return organizationViewCache.get(idOrganization, organizationGateway::findById);
+    }
+
     public Organization updateOrganization(Organization organization){
         return organizationGateway.updateOrganization(organization);
     }
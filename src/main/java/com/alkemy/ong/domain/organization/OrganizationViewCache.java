@@ -0,0 +1,69 @@
+package com.alkemy.ong.domain.organization;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class OrganizationViewCache {
+
+    private final Cache<Long, byte[]> views;
+    private final ObjectMapper objectMapper;
+
+    public OrganizationViewCache(ObjectMapper objectMapper,
+                                 @Value("${organizations.cache.ttl-seconds:3600}") long ttlSeconds,
+                                 @Value("${organizations.cache.maximum-size:100}") long maximumSize) {
+        this.objectMapper = objectMapper;
+        this.views = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public byte[] get(Long idOrganization, Function<Long, Organization> loader) {
+        return views.get(idOrganization, id -> serialize(loader.apply(id)));
+    }
+
+    public void invalidateAll() {
+        views.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        views.invalidate(event.getIdOrganization());
+    }
+
+    public CacheStats stats() {
+        return views.stats();
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    private byte[] serialize(Organization organization) {
+        try {
+            return objectMapper.writeValueAsBytes(organization);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
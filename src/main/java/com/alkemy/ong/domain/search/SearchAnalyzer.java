@@ -0,0 +1,108 @@
+package com.alkemy.ong.domain.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class SearchAnalyzer {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final int SNIPPET_LENGTH = 200;
+    private static final int SNIPPET_LEAD = 60;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los", "para", "por", "que", "se",
+            "su", "sus", "un", "una", "y", "o",
+            "an", "and", "are", "for", "in", "is", "it", "of", "on", "or", "the", "to", "with");
+
+    private SearchAnalyzer() {
+    }
+
+    public static List<Token> tokens(String text) {
+        List<Token> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        Matcher matcher = WORD.matcher(text);
+        while (matcher.find()) {
+            String term = normalize(matcher.group());
+            if (term.length() > 1 && !STOP_WORDS.contains(term)) {
+                tokens.add(new Token(term, matcher.start(), matcher.end()));
+            }
+        }
+        return tokens;
+    }
+
+    public static List<String> terms(String text) {
+        return tokens(text).stream().map(Token::term).distinct().toList();
+    }
+
+    /**
+     * Returns a window of {@code text} around the first query term it contains, HTML escaped and with every
+     * matching word wrapped in {@code <em>}. Texts without matches give their opening words.
+     */
+    public static String highlight(String text, Set<String> queryTerms) {
+        if (text == null || text.isEmpty()) {
+            return text;
+        }
+        List<Token> matches = tokens(text).stream().filter(token -> queryTerms.contains(token.term())).toList();
+        int start = matches.isEmpty() ? 0 : wordStart(text, Math.max(0, matches.get(0).start() - SNIPPET_LEAD));
+        int end = Math.min(text.length(), start + SNIPPET_LENGTH);
+
+        StringBuilder snippet = new StringBuilder(end - start + 16);
+        if (start > 0) {
+            snippet.append("…");
+        }
+        int position = start;
+        for (Token match : matches) {
+            if (match.start() < start) {
+                continue;
+            }
+            if (match.end() > end) {
+                break;
+            }
+            escape(text, position, match.start(), snippet);
+            snippet.append("<em>");
+            escape(text, match.start(), match.end(), snippet);
+            snippet.append("</em>");
+            position = match.end();
+        }
+        escape(text, position, end, snippet);
+        if (end < text.length()) {
+            snippet.append("…");
+        }
+        return snippet.toString();
+    }
+
+    private static String normalize(String word) {
+        return DIACRITICS.matcher(Normalizer.normalize(word, Normalizer.Form.NFD)).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static int wordStart(String text, int index) {
+        while (index > 0 && Character.isLetterOrDigit(text.charAt(index - 1))) {
+            index--;
+        }
+        return index;
+    }
+
+    private static void escape(String text, int from, int to, StringBuilder out) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    public record Token(String term, int start, int end) {
+    }
+}
@@ -0,0 +1,14 @@
+package com.alkemy.ong.domain.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchDocument {
+
+    private final SearchDocumentType type;
+    private final Long id;
+    private final String title;
+    private final String content;
+}
@@ -0,0 +1,22 @@
+package com.alkemy.ong.domain.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class SearchDocumentChangedEvent {
+
+    private final SearchDocumentType type;
+    private final Long id;
+    /** The new content of the document, null when it was deleted. */
+    private final SearchDocument document;
+
+    public static SearchDocumentChangedEvent saved(SearchDocumentType type, Long id, String title, String content) {
+        return new SearchDocumentChangedEvent(type, id, new SearchDocument(type, id, title, content));
+    }
+
+    public static SearchDocumentChangedEvent deleted(SearchDocumentType type, Long id) {
+        return new SearchDocumentChangedEvent(type, id, null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.alkemy.ong.domain.search;
+
+import java.util.function.Consumer;
+
+public interface SearchDocumentGateway {
+
+    void forEachDocument(Consumer<SearchDocument> consumer);
+}
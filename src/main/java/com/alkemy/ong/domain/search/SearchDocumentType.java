@@ -0,0 +1,7 @@
+package com.alkemy.ong.domain.search;
+
+public enum SearchDocumentType {
+    NEWS,
+    ACTIVITY,
+    TESTIMONIAL
+}
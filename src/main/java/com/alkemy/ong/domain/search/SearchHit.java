@@ -0,0 +1,16 @@
+package com.alkemy.ong.domain.search;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchHit {
+    private SearchDocumentType type;
+    private Long id;
+    private String title;
+    private String snippet;
+    private double score;
+}
@@ -0,0 +1,205 @@
+package com.alkemy.ong.domain.search;
+
+import com.alkemy.ong.domain.search.SearchAnalyzer.Token;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * In-memory inverted index ranked with BM25. Title words count twice towards a document's term frequencies.
+ */
+@Component
+public class SearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_BOOST = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex current = new InvertedIndex();
+    private List<Consumer<InvertedIndex>> pendingDuringRebuild;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDocumentChanged(SearchDocumentChangedEvent event) {
+        if (event.getDocument() == null) {
+            remove(event.getType(), event.getId());
+        } else {
+            index(event.getDocument());
+        }
+    }
+
+    public void index(SearchDocument document) {
+        apply(index -> index.add(document));
+    }
+
+    public void remove(SearchDocumentType type, Long id) {
+        apply(index -> index.remove(new DocumentKey(type, id)));
+    }
+
+    /**
+     * Builds a fresh index from {@code loader} without holding the lock, then swaps it in. Changes applied
+     * while the loader runs are replayed on the new index so they are not lost if the loader read older rows.
+     */
+    public void rebuild(Consumer<Consumer<SearchDocument>> loader) {
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        InvertedIndex rebuilt = new InvertedIndex();
+        boolean loaded = false;
+        try {
+            loader.accept(rebuilt::add);
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                List<Consumer<InvertedIndex>> pending = pendingDuringRebuild;
+                pendingDuringRebuild = null;
+                if (loaded) {
+                    pending.forEach(change -> change.accept(rebuilt));
+                    current = rebuilt;
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public SearchResults search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(SearchAnalyzer.terms(query));
+        if (terms.isEmpty()) {
+            return new SearchResults(List.of(), 0);
+        }
+        lock.readLock().lock();
+        try {
+            return current.search(terms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return current.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<InvertedIndex> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(current);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public record SearchResults(List<SearchHit> hits, int total) {
+    }
+
+    private record DocumentKey(SearchDocumentType type, Long id) {
+    }
+
+    private record IndexedDocument(SearchDocument document, Map<String, Integer> frequencies, int length) {
+    }
+
+    private record ScoredDocument(IndexedDocument document, double score) {
+    }
+
+    private static class InvertedIndex {
+
+        private final Map<DocumentKey, IndexedDocument> documents = new HashMap<>();
+        private final Map<String, Map<DocumentKey, Integer>> postings = new HashMap<>();
+        private long totalLength;
+
+        void add(SearchDocument document) {
+            DocumentKey key = new DocumentKey(document.getType(), document.getId());
+            remove(key);
+            Map<String, Integer> frequencies = new HashMap<>();
+            int length = 0;
+            for (Token token : SearchAnalyzer.tokens(document.getTitle())) {
+                frequencies.merge(token.term(), TITLE_BOOST, Integer::sum);
+                length += TITLE_BOOST;
+            }
+            for (Token token : SearchAnalyzer.tokens(document.getContent())) {
+                frequencies.merge(token.term(), 1, Integer::sum);
+                length++;
+            }
+            frequencies.forEach((term, frequency) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(key, frequency));
+            documents.put(key, new IndexedDocument(document, frequencies, length));
+            totalLength += length;
+        }
+
+        void remove(DocumentKey key) {
+            IndexedDocument removed = documents.remove(key);
+            if (removed == null) {
+                return;
+            }
+            removed.frequencies().keySet().forEach(term -> {
+                Map<DocumentKey, Integer> posting = postings.get(term);
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            });
+            totalLength -= removed.length();
+        }
+
+        SearchResults search(Set<String> terms, int offset, int limit) {
+            if (documents.isEmpty()) {
+                return new SearchResults(List.of(), 0);
+            }
+            int total = documents.size();
+            double averageLength = (double) totalLength / total;
+            Map<DocumentKey, Double> scores = new HashMap<>();
+            for (String term : terms) {
+                Map<DocumentKey, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (total - posting.size() + 0.5) / (posting.size() + 0.5));
+                posting.forEach((key, frequency) -> {
+                    double norm = K1 * (1 - B + B * documents.get(key).length() / averageLength);
+                    scores.merge(key, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+                });
+            }
+            List<SearchHit> hits = scores.entrySet().stream()
+                    .map(entry -> new ScoredDocument(documents.get(entry.getKey()), entry.getValue()))
+                    .sorted(Comparator.comparingDouble(ScoredDocument::score).reversed()
+                            .thenComparing(scored -> scored.document().document().getId(), Comparator.reverseOrder()))
+                    .skip(offset)
+                    .limit(limit)
+                    .map(scored -> toHit(scored, terms))
+                    .toList();
+            return new SearchResults(hits, scores.size());
+        }
+
+        private static SearchHit toHit(ScoredDocument scored, Set<String> terms) {
+            SearchDocument document = scored.document().document();
+            return SearchHit.builder()
+                    .type(document.getType())
+                    .id(document.getId())
+                    .title(SearchAnalyzer.highlight(document.getTitle(), terms))
+                    .snippet(SearchAnalyzer.highlight(document.getContent(), terms))
+                    .score(scored.score())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.alkemy.ong.domain.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Loads the search index from the database in the background once the application is ready, so readiness
+ * does not wait on reading every news, activity and testimonial. Searches return partial results meanwhile.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "search.rebuild-on-startup", matchIfMissing = true)
+public class SearchIndexLoader {
+
+    private final SearchService searchService;
+    private final SearchIndex searchIndex;
+
+    public SearchIndexLoader(SearchService searchService, SearchIndex searchIndex) {
+        this.searchService = searchService;
+        this.searchIndex = searchIndex;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread loader = new Thread(this::rebuild, "search-index-rebuild");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void rebuild() {
+        long start = System.nanoTime();
+        try {
+            searchService.rebuild();
+            log.info("Search index built with {} documents in {} ms", searchIndex.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.warn("Search index rebuild failed", e);
+        }
+    }
+}
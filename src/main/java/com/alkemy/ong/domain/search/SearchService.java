@@ -0,0 +1,45 @@
+package com.alkemy.ong.domain.search;
+
+import com.alkemy.ong.data.pagination.PageModel;
+import com.alkemy.ong.data.utils.PaginationUtils;
+import com.alkemy.ong.domain.exceptions.WebRequestException;
+import com.alkemy.ong.domain.search.SearchIndex.SearchResults;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.URLEncoder;
+
+import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Service
+public class SearchService {
+
+    private final SearchIndex searchIndex;
+    private final SearchDocumentGateway searchDocumentGateway;
+
+    public SearchService(SearchIndex searchIndex, SearchDocumentGateway searchDocumentGateway) {
+        this.searchIndex = searchIndex;
+        this.searchDocumentGateway = searchDocumentGateway;
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        searchIndex.rebuild(searchDocumentGateway::forEachDocument);
+    }
+
+    public PageModel<SearchHit> search(String query, int pageNumber) {
+        if (query == null || query.isBlank()) {
+            throw new WebRequestException("The search query cannot be empty.");
+        }
+        SearchResults results = searchIndex.search(query, pageNumber * DEFAULT_PAGE_SIZE, DEFAULT_PAGE_SIZE);
+        boolean hasNext = (long) (pageNumber + 1) * DEFAULT_PAGE_SIZE < results.total();
+        PageModel<SearchHit> page = PaginationUtils.setPagesNumbers(
+                new SliceImpl<>(results.hits(), PageRequest.of(pageNumber, DEFAULT_PAGE_SIZE), hasNext),
+                "/search?q=" + URLEncoder.encode(query, UTF_8) + "&page=");
+        page.setApproximateTotal((long) results.total());
+        return page;
+    }
+}
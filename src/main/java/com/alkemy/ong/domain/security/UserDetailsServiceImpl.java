@@ -30,17 +30,21 @@ public class UserDetailsServiceImpl implements UserDetailsService {
         } else {
             Collection<GrantedAuthority> authorities = new ArrayList<>();
             authorities.add(getAuthority(user));
-            return new org.springframework.security.core.userdetails.User(user.getEmail(), user.getPassword(), authorities);
+            return new AuthenticatedUser(user.getId(), user.getEmail(), user.getPassword(), authorities);
         }
     }
 
     private GrantedAuthority getAuthority(User user) {
+        String authority = authorityOf(user.getRoleId());
+        return authority == null ? null : new SimpleGrantedAuthority(authority);
+    }
 
-        if (user.getRoleId() == 1L) {
-            return new SimpleGrantedAuthority("ROLE_ADMIN");
+    static String authorityOf(Long roleId) {
+        if (roleId == 1L) {
+            return "ROLE_ADMIN";
         }
-        if (user.getRoleId() == 2L) {
-            return new SimpleGrantedAuthority("ROLE_USER");
+        if (roleId == 2L) {
+            return "ROLE_USER";
         }
         return null;
     }
@@ -0,0 +1,57 @@
+package com.alkemy.ong.domain.security;
+
+import com.alkemy.ong.domain.users.UserChangedEvent;
+import com.alkemy.ong.domain.users.UserGateway;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Remembers each user's current role for a short time, so a token is rejected soon after its user is deleted or
+ * demoted. It reads the role straight from the database rather than through {@link com.alkemy.ong.domain.users.UserCache},
+ * whose longer lifetime would otherwise add up with this one on instances that never saw the change.
+ */
+@Component
+public class UserStatusCache {
+
+    private final UserGateway userGateway;
+    private final Cache<String, Optional<String>> roles;
+
+    public UserStatusCache(UserGateway userGateway,
+                           @Value("${jwt.user-status.ttl-seconds:30}") long ttlSeconds,
+                           @Value("${jwt.user-status.maximum-size:10000}") long maximumSize) {
+        this.userGateway = userGateway;
+        this.roles = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public boolean isActive(String email, String role) {
+        return roles.get(email, this::loadRole).map(role::equals).orElse(false);
+    }
+
+    public void invalidate(String email) {
+        roles.invalidate(email);
+    }
+
+    public CacheStats stats() {
+        return roles.stats();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.getEmail());
+    }
+
+    private Optional<String> loadRole(String email) {
+        return userGateway.findRoleIdByEmail(email).map(UserDetailsServiceImpl::authorityOf);
+    }
+}
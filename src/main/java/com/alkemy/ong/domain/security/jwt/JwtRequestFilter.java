@@ -1,6 +1,9 @@
 package com.alkemy.ong.domain.security.jwt;
 
+import com.alkemy.ong.domain.security.AuthenticatedUser;
+import com.alkemy.ong.domain.security.UserStatusCache;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -13,34 +16,43 @@ import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Collections;
 
 @Component
 public class JwtRequestFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailsService;
     private final JwtUtil jwtUtil;
+    private final JwtValidationCache jwtValidationCache;
+    private final UserStatusCache userStatusCache;
 
-    public JwtRequestFilter(UserDetailsService userDetailsService, JwtUtil jwtUtil) {
+    public JwtRequestFilter(UserDetailsService userDetailsService, JwtUtil jwtUtil,
+                            JwtValidationCache jwtValidationCache, UserStatusCache userStatusCache) {
         this.userDetailsService= userDetailsService;
         this.jwtUtil=jwtUtil;
+        this.jwtValidationCache=jwtValidationCache;
+        this.userStatusCache=userStatusCache;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        VerifiedToken verifiedToken = null;
 
         if(authorizationHeader!=null && authorizationHeader.startsWith("Bearer")){
-            jwt = authorizationHeader.substring(7);
-            username = jwtUtil.extractUsername(jwt);
+            verifiedToken = jwtValidationCache.verify(authorizationHeader.substring(7));
         }
 
-        if(username != null && SecurityContextHolder.getContext().getAuthentication() == null){
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if(verifiedToken != null && verifiedToken.getUsername() != null
+                && SecurityContextHolder.getContext().getAuthentication() == null){
+            String role = verifiedToken.getRole();
+            UserDetails userDetails = role != null
+                    ? fromClaims(verifiedToken)
+                    : userDetailsService.loadUserByUsername(verifiedToken.getUsername());
 
-            if(jwtUtil.validateToken(jwt,userDetails)){
+            if(jwtUtil.validateToken(verifiedToken,userDetails)
+                    && (role == null || userStatusCache.isActive(verifiedToken.getUsername(), role))){
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
                         userDetails,null,userDetails.getAuthorities());
 
@@ -50,4 +62,9 @@ public class JwtRequestFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request,response);
     }
+
+    private UserDetails fromClaims(VerifiedToken verifiedToken) {
+        return new AuthenticatedUser(verifiedToken.getUserId(), verifiedToken.getUsername(), "",
+                Collections.singletonList(new SimpleGrantedAuthority(verifiedToken.getRole())));
+    }
 }
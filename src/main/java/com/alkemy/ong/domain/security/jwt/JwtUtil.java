@@ -1,5 +1,6 @@
 package com.alkemy.ong.domain.security.jwt;
 
+import com.alkemy.ong.domain.security.AuthenticatedUser;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -14,6 +15,9 @@ import java.util.function.Function;
 @Service
 public class JwtUtil {
 
+    public static final String ROLE_CLAIM = "role";
+    public static final String USER_ID_CLAIM = "userId";
+
     private final String SECRET_KEY = "secretkey";
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
@@ -25,6 +29,10 @@ public class JwtUtil {
         return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
     }
 
+    public VerifiedToken verify(String token) {
+        return new VerifiedToken(extractAllClaim(token));
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -39,6 +47,11 @@ public class JwtUtil {
 
     public String generateToken(UserDetails userDetails){
         Map<String,Object> claims = new HashMap<>();
+        userDetails.getAuthorities().stream().findFirst()
+                .ifPresent(authority -> claims.put(ROLE_CLAIM, authority.getAuthority()));
+        if (userDetails instanceof AuthenticatedUser) {
+            claims.put(USER_ID_CLAIM, ((AuthenticatedUser) userDetails).getId());
+        }
         return createToken(claims,userDetails.getUsername());
     }
 
@@ -57,7 +70,16 @@ public class JwtUtil {
         return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
     }
 
+    public Boolean validateToken(VerifiedToken token, UserDetails userDetails){
+        return (token.getUsername().equals(userDetails.getUsername()) && !token.isExpired());
+    }
+
     public String extractEmail(String token) {
         return extractClaim((token.replace("Bearer ", "")), Claims::getSubject);
     }
+
+    public Long extractUserId(String token) {
+        Object userId = extractClaim((token.replace("Bearer ", "")), claims -> claims.get(USER_ID_CLAIM));
+        return userId == null ? null : ((Number) userId).longValue();
+    }
 }
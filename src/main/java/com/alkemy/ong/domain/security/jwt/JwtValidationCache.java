@@ -0,0 +1,87 @@
+package com.alkemy.ong.domain.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+@Component
+public class JwtValidationCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtValidationCache(JwtUtil jwtUtil, @Value("${jwt.cache.maximum-size:10000}") long maximumSize) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpires())
+                .recordStats()
+                .build();
+    }
+
+    public VerifiedToken verify(String token) {
+        String key = hash(token);
+        VerifiedToken verifiedToken = verifiedTokens.get(key, hash -> jwtUtil.verify(token));
+        if (verifiedToken.isExpired()) {
+            verifiedTokens.invalidate(key);
+            return jwtUtil.verify(token);
+        }
+        return verifiedToken;
+    }
+
+    public CacheStats stats() {
+        return verifiedTokens.stats();
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class UntilTokenExpires implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+            if (token.getExpiration() == null) {
+                return 0;
+            }
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, token.getExpiration().getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
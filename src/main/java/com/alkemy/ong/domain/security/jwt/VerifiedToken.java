@@ -0,0 +1,37 @@
+package com.alkemy.ong.domain.security.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.Getter;
+
+import java.util.Date;
+
+@Getter
+public class VerifiedToken {
+
+    private final Claims claims;
+
+    public VerifiedToken(Claims claims) {
+        this.claims = claims;
+    }
+
+    public String getUsername() {
+        return claims.getSubject();
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    public String getRole() {
+        return claims.get(JwtUtil.ROLE_CLAIM, String.class);
+    }
+
+    public Long getUserId() {
+        Object userId = claims.get(JwtUtil.USER_ID_CLAIM);
+        return userId == null ? null : ((Number) userId).longValue();
+    }
+
+    public boolean isExpired() {
+        return getExpiration() != null && getExpiration().before(new Date());
+    }
+}
@@ -9,4 +9,5 @@ public interface SlidesGateway {
     Slides create(Slides slides) throws IOException;
     Slides update(Slides slides);
     void delete(Long id);
+    List<Slides> reorder(Long idOrganization, List<Long> orderedSlideIds);
 }
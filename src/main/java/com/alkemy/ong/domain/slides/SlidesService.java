@@ -1,6 +1,7 @@
 package com.alkemy.ong.domain.slides;
 
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -26,4 +27,9 @@ public class SlidesService {
     public Slides updateSlides(Slides slides) { return slidesGateway.update(slides);}
 
     public void deleteSlideById(Long id){slidesGateway.delete(id);}
+
+    @Transactional
+    public List<Slides> reorder(Long idOrganization, List<Long> orderedSlideIds) {
+        return slidesGateway.reorder(idOrganization, orderedSlideIds);
+    }
 }
\ No newline at end of file
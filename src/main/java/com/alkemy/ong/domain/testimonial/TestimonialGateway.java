@@ -2,10 +2,14 @@ package com.alkemy.ong.domain.testimonial;
 
 import com.alkemy.ong.data.pagination.PageModel;
 
+import java.util.List;
+
 public interface TestimonialGateway {
 
     Testimonial save(Testimonial testimonial);
 
+    List<Testimonial> saveAll(List<Testimonial> testimonials);
+
     Testimonial update(Long id, Testimonial testimonial);
 
     void delete(Long id);
@@ -2,6 +2,9 @@ package com.alkemy.ong.domain.testimonial;
 
 import com.alkemy.ong.data.pagination.PageModel;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 public class TestimonialService {
@@ -14,6 +17,9 @@ public class TestimonialService {
 
     public Testimonial save(Testimonial testimonial){return testimonialGateway.save(testimonial);}
 
+    @Transactional
+    public List<Testimonial> saveAll(List<Testimonial> testimonials){return testimonialGateway.saveAll(testimonials);}
+
     public Testimonial update(Long id, Testimonial testimonial){ return testimonialGateway.update(id, testimonial);}
 
     public void delete(Long id){testimonialGateway.delete(id);}
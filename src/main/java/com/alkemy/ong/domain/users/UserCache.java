@@ -0,0 +1,55 @@
+package com.alkemy.ong.domain.users;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class UserCache {
+
+    private final Cache<String, User> users;
+
+    public UserCache(@Value("${users.cache.ttl-seconds:300}") long ttlSeconds,
+                     @Value("${users.cache.maximum-size:10000}") long maximumSize) {
+        this.users = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public User get(String email, Function<String, User> loader) {
+        return users.get(email, loader);
+    }
+
+    public void invalidateAll() {
+        users.invalidateAll();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        users.invalidate(event.getEmail());
+    }
+
+    public CacheStats stats() {
+        return users.stats();
+    }
+
+    public long getHitCount() {
+        return stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return stats().missCount();
+    }
+
+    public double getHitRate() {
+        return stats().hitRate();
+    }
+}
@@ -0,0 +1,11 @@
+package com.alkemy.ong.domain.users;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    private final String email;
+}
@@ -3,14 +3,19 @@ package com.alkemy.ong.domain.users;
 import com.alkemy.ong.data.pagination.PageModel;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface UserGateway {
     List<User> findAll();
+	void exportAll(Consumer<User> consumer);
 	User findById(Long id);
 	User findByEmail(String email);
+	Optional<Long> findRoleIdByEmail(String email);
 	void emailExists(String email);
 	User register(User user);	
 	User update (User user);
 	void deleteById(Long id);
 	PageModel<User> findAll(int pageNumber);
+	PageModel<User> findAllByCursor(String cursor);
 }
@@ -2,35 +2,44 @@ package com.alkemy.ong.domain.users;
 
 import com.alkemy.ong.data.pagination.PageModel;
 import com.alkemy.ong.domain.mail.MailService;
+import com.alkemy.ong.domain.mail.MailTemplateEngine;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 
 @Service
 public class UserService {
 	
 	private final UserGateway userGateway;
     private final MailService mailService;
+    private final UserCache userCache;
 
     private final String SUBJECT = "%s, registration was successful";
-    private final String BODY = "<br>Welcome to Somas Mas ONG, now you are part of our family." +
-                                "<br>%s, your Username is:<br>%s"+
-                                "<br><br><b>¡Thank you for registering!</b><br>";
 
 
-	public UserService(UserGateway userGateway,MailService mailService) {
+	public UserService(UserGateway userGateway,MailService mailService,UserCache userCache) {
         this.userGateway = userGateway;
         this.mailService =mailService;
+        this.userCache = userCache;
     }
 
     public List<User> findAll(){
         return userGateway.findAll();
     }
 
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<User> consumer){
+        userGateway.exportAll(consumer);
+    }
+
 	public User findByEmail(String email) {
-        return userGateway.findByEmail(email);
+        return userCache.get(email, userGateway::findByEmail);
     }
 
+    @Transactional
     public User register(User user) {
         User userRegistered = userGateway.register(user);
         sendMailWithTemplate(user);
@@ -53,9 +62,13 @@ public class UserService {
         return userGateway.findAll(pageNumber);
     }
 
+    public PageModel<User> findAllByCursor(String cursor){
+        return userGateway.findAllByCursor(cursor);
+    }
+
     private void sendMailWithTemplate(User user){
         String subject = String.format(SUBJECT,user.getFirstName());
-        String body = String.format(BODY, user.getFirstName(), user.getEmail());
-        mailService.sendMailWithTemplate(user.getEmail(), subject, body);
+        mailService.enqueueTemplate(user.getEmail(), subject, MailTemplateEngine.REGISTRATION,
+                Map.of("firstName", user.getFirstName(), "email", user.getEmail()));
     }
 }
@@ -0,0 +1,11 @@
+package com.alkemy.ong.domain.versions;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ResourceChangedEvent {
+
+    private final VersionedResource resource;
+}
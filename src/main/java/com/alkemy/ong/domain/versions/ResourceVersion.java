@@ -0,0 +1,12 @@
+package com.alkemy.ong.domain.versions;
+
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResourceVersion {
+    private String fingerprint;
+}
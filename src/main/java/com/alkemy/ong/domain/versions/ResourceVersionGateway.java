@@ -0,0 +1,5 @@
+package com.alkemy.ong.domain.versions;
+
+public interface ResourceVersionGateway {
+    ResourceVersion findVersion(VersionedResource resource);
+}
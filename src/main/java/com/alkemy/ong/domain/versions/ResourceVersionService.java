@@ -0,0 +1,55 @@
+package com.alkemy.ong.domain.versions;
+
+import com.alkemy.ong.domain.organization.OrganizationChangedEvent;
+import com.alkemy.ong.domain.search.SearchDocumentChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * Derives each resource's version from its backing tables, so every instance computes the same ETag and writes made
+ * outside the gateways are seen too. A version is reused for a few seconds to keep the aggregates off most
+ * conditional GETs; writes through this instance drop it as soon as they commit.
+ */
+@Service
+public class ResourceVersionService {
+
+    private final ResourceVersionGateway resourceVersionGateway;
+    private final Cache<VersionedResource, ResourceVersion> versions;
+
+    public ResourceVersionService(ResourceVersionGateway resourceVersionGateway,
+                                  @Value("${versions.cache.ttl-seconds:5}") long ttlSeconds) {
+        this.resourceVersionGateway = resourceVersionGateway;
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public ResourceVersion findVersion(VersionedResource resource) {
+        return versions.get(resource, resourceVersionGateway::findVersion);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceChanged(ResourceChangedEvent event) {
+        versions.invalidate(event.getResource());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrganizationChanged(OrganizationChangedEvent event) {
+        versions.invalidate(VersionedResource.ORGANIZATIONS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSearchDocumentChanged(SearchDocumentChangedEvent event) {
+        switch (event.getType()) {
+            case NEWS -> versions.invalidate(VersionedResource.NEWS);
+            case TESTIMONIAL -> versions.invalidate(VersionedResource.TESTIMONIALS);
+            default -> {
+            }
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.alkemy.ong.domain.versions;
+
+public enum VersionedResource {
+    NEWS,
+    SLIDES,
+    ORGANIZATIONS,
+    MEMBERS,
+    TESTIMONIALS
+}
@@ -0,0 +1,96 @@
+package com.alkemy.ong.web.bulk;
+
+import com.alkemy.ong.domain.exceptions.WebRequestException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+public class BulkImporter {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int chunkSize;
+
+    public BulkImporter(ObjectMapper objectMapper, Validator validator, @Value("${bulk.chunk-size:500}") int chunkSize) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Reads a JSON array or an NDJSON stream row by row. Rows that cannot be bound or fail validation are
+     * reported in the result, the valid ones are handed to the saver in chunks of {@code bulk.chunk-size}.
+     * A chunk the database rejects is rolled back on its own and its rows are reported, earlier chunks stay saved.
+     */
+    public <D, M> BulkResultDTO importRows(InputStream body, Class<D> dtoClass, Function<D, M> toModel,
+                                          Function<List<M>, List<M>> saver, Function<M, Long> idOf) {
+        BulkResultDTO result = new BulkResultDTO();
+        List<M> chunk = new ArrayList<>(chunkSize);
+        List<Integer> chunkRows = new ArrayList<>(chunkSize);
+        try (MappingIterator<D> rows = objectMapper.readerFor(dtoClass).readValues(body)) {
+            int row = 0;
+            while (rows.hasNextValue()) {
+                row++;
+                D dto;
+                try {
+                    dto = rows.nextValue();
+                } catch (JsonParseException e) {
+                    throw new WebRequestException("The body is not valid JSON near row " + row + ".");
+                } catch (JsonMappingException e) {
+                    result.addError(row, List.of(e.getOriginalMessage()));
+                    continue;
+                }
+                Set<ConstraintViolation<D>> violations = validator.validate(dto);
+                if (!violations.isEmpty()) {
+                    result.addError(row, violations.stream().map(ConstraintViolation::getMessage).sorted().toList());
+                    continue;
+                }
+                chunk.add(toModel.apply(dto));
+                chunkRows.add(row);
+                if (chunk.size() == chunkSize) {
+                    flush(chunk, chunkRows, saver, idOf, result);
+                }
+            }
+            result.setReceived(row);
+        } catch (IOException e) {
+            throw new WebRequestException("The body could not be read.");
+        }
+        flush(chunk, chunkRows, saver, idOf, result);
+        return result;
+    }
+
+    private static <M> void flush(List<M> chunk, List<Integer> chunkRows, Function<List<M>, List<M>> saver,
+                                  Function<M, Long> idOf, BulkResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            saver.apply(new ArrayList<>(chunk)).forEach(saved -> result.addCreated(idOf.apply(saved)));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Bulk import chunk of rows {} to {} could not be saved", chunkRows.get(0), chunkRows.get(chunkRows.size() - 1), e);
+            chunkRows.forEach(row -> result.addError(row, List.of("The row could not be saved, none of rows "
+                    + chunkRows.get(0) + " to " + chunkRows.get(chunkRows.size() - 1) + " were imported.")));
+        }
+        chunk.clear();
+        chunkRows.clear();
+    }
+}
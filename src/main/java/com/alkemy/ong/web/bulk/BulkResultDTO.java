@@ -0,0 +1,47 @@
+package com.alkemy.ong.web.bulk;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Schema(description = "Outcome of a bulk import")
+public class BulkResultDTO {
+
+    @Schema(example = "3")
+    private int received;
+
+    @Schema(example = "2")
+    private int created;
+
+    private List<Long> ids = new ArrayList<>();
+
+    private List<BulkErrorDTO> errors = new ArrayList<>();
+
+    void addCreated(Long id) {
+        ids.add(id);
+        created++;
+    }
+
+    void addError(int row, List<String> messages) {
+        errors.add(new BulkErrorDTO(row, messages));
+    }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    public static class BulkErrorDTO {
+
+        @Schema(example = "2")
+        private int row;
+
+        @Schema(example = "[\"Name field cannot admit number.\"]")
+        private List<String> messages;
+    }
+}
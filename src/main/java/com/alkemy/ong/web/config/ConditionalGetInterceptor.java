@@ -0,0 +1,40 @@
+package com.alkemy.ong.web.config;
+
+import com.alkemy.ong.domain.versions.ResourceVersion;
+import com.alkemy.ong.domain.versions.ResourceVersionService;
+import com.alkemy.ong.domain.versions.VersionedResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+public class ConditionalGetInterceptor implements HandlerInterceptor {
+
+    private final ResourceVersionService resourceVersionService;
+    private final VersionedResource resource;
+    private final CacheControl cacheControl;
+
+    public ConditionalGetInterceptor(ResourceVersionService resourceVersionService, VersionedResource resource, CacheControl cacheControl) {
+        this.resourceVersionService = resourceVersionService;
+        this.resource = resource;
+        this.cacheControl = cacheControl;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        ResourceVersion version = resourceVersionService.findVersion(resource);
+        String etag = "\"" + DigestUtils.md5DigestAsHex((resource + ";" + version.getFingerprint()).getBytes(UTF_8)) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        return !new ServletWebRequest(request, response).checkNotModified(etag);
+    }
+}
@@ -36,7 +36,10 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
 				.csrf().disable()
 				.authorizeRequests()
 				.antMatchers("/auth/**").permitAll()
+				.antMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+				.antMatchers("/actuator/**").hasRole("ADMIN")
 				.antMatchers(HttpMethod.GET,"/contacts", "/users/").hasRole("ADMIN")
+				.antMatchers(HttpMethod.GET,"/contacts/export", "/users/export", "/comments/export").hasRole("ADMIN")
 				.antMatchers(HttpMethod.POST,"/contacts").hasAnyRole("USER", "ADMIN")
 				.antMatchers(HttpMethod.GET, "/**").permitAll()
 				.antMatchers(HttpMethod.POST, "/**").hasRole("ADMIN")
@@ -0,0 +1,35 @@
+package com.alkemy.ong.web.config;
+
+import com.alkemy.ong.domain.versions.ResourceVersionService;
+import com.alkemy.ong.domain.versions.VersionedResource;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final ResourceVersionService resourceVersionService;
+
+    public WebConfig(ResourceVersionService resourceVersionService) {
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        addConditionalGet(registry, VersionedResource.NEWS, Duration.ofMinutes(1), "/news", "/news/**");
+        addConditionalGet(registry, VersionedResource.SLIDES, Duration.ofMinutes(10), "/slides", "/slides/**");
+        addConditionalGet(registry, VersionedResource.ORGANIZATIONS, Duration.ofHours(1), "/organizations/public/**");
+        addConditionalGet(registry, VersionedResource.MEMBERS, Duration.ofMinutes(10), "/members", "/members/**");
+        addConditionalGet(registry, VersionedResource.TESTIMONIALS, Duration.ofMinutes(10), "/testimonials", "/testimonials/**");
+    }
+
+    private void addConditionalGet(InterceptorRegistry registry, VersionedResource resource, Duration maxAge, String... pathPatterns) {
+        CacheControl cacheControl = CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+        registry.addInterceptor(new ConditionalGetInterceptor(resourceVersionService, resource, cacheControl))
+                .addPathPatterns(pathPatterns);
+    }
+}
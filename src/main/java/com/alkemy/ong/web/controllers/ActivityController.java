@@ -2,16 +2,20 @@ package com.alkemy.ong.web.controllers;
 
 import com.alkemy.ong.domain.activities.Activity;
 import com.alkemy.ong.domain.activities.ActivityService;
+import com.alkemy.ong.web.bulk.BulkImporter;
+import com.alkemy.ong.web.bulk.BulkResultDTO;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 
 import static com.alkemy.ong.web.utils.WebUtils.*;
@@ -22,9 +26,11 @@ import static com.alkemy.ong.web.utils.WebUtils.*;
 public class ActivityController {
 
     private final ActivityService activityService;
+    private final BulkImporter bulkImporter;
 
-    public ActivityController(ActivityService activityService){
+    public ActivityController(ActivityService activityService, BulkImporter bulkImporter){
         this.activityService = activityService;
+        this.bulkImporter = bulkImporter;
     }
 
     @PostMapping
@@ -32,6 +38,11 @@ public class ActivityController {
         return ResponseEntity.status(HttpStatus.CREATED).body(toDTO(activityService.saveActivity(toModel(activityDTO))));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, BulkImporter.NDJSON})
+    public ResponseEntity<BulkResultDTO> saveActivities(InputStream body){
+        return ResponseEntity.ok(bulkImporter.importRows(body, ActivityDTO.class, this::toModel, activityService::saveActivities, Activity::getId));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ActivityDTO> updateActivity(@PathVariable Long id, @Valid @RequestBody ActivityDTO activityDTO){
         validateDtoIdWithBodyId(id, activityDTO.getId());
@@ -20,6 +20,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.alkemy.ong.domain.category.Category;
+import com.alkemy.ong.domain.cloud.CloudService;
 import com.alkemy.ong.domain.category.CategoryService;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
 import com.alkemy.ong.web.utils.WebUtils;
@@ -33,6 +34,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 import lombok.*;
 
@@ -43,10 +45,13 @@ public class CategoryController {
 
 	private final CategoryService categoryService;
 	private final PageDTOMapper<CategorySlimDTO, Category> pageDTOMapper;
+	private final CloudService cloudService;
 
-	public CategoryController(CategoryService categoryService, PageDTOMapper pageDTOMapper) {
+	public CategoryController(CategoryService categoryService, PageDTOMapper pageDTOMapper, CloudService cloudService) {
 		this.categoryService = categoryService;
 		this.pageDTOMapper = pageDTOMapper;
+		this.cloudService = cloudService;
+		this.pageDTOMapper.register(Category.class, CategorySlimDTO.class, this::toSlimDTO);
 	}
 
 	 @Operation(summary = "Get a paginated list of categories")
@@ -81,6 +86,37 @@ public class CategoryController {
         return ResponseEntity.ok().body(pageDTOMapper.toPageDTO(categoryService.findAll(numberPage),CategorySlimDTO.class));
 	}
 
+	@Operation(summary = "Get a list of categories using cursor pagination")
+	@ApiResponses(
+			value = {
+					@ApiResponse(
+							responseCode = "200",
+							description = "Retrieve a list of categories after the given cursor",
+							content = {
+									@Content(
+											mediaType = "application/json",
+											schema = @Schema(
+													implementation = CategorySlimDTO.class)) }),
+					@ApiResponse(
+							responseCode = "400",
+							description = "BAD REQUEST",
+							content = {
+									@Content(
+											schema = @Schema(implementation = String.class),
+											examples = @ExampleObject(
+													name = "Message of error",
+													summary = "400 from the server directly.",
+													value = "The cursor is not valid"
+											)
+									)
+							}
+					)
+	})
+	@GetMapping(params = "cursor")
+	public ResponseEntity<PageDTO<CategorySlimDTO>> getAllCategoriesByCursor(@RequestParam("cursor") String cursor) {
+		return ResponseEntity.ok().body(pageDTOMapper.toPageDTO(categoryService.findAllByCursor(cursor),CategorySlimDTO.class));
+	}
+
 	@Operation(summary = "Get a category by id")
 	@ApiResponses(
 			value = {
@@ -193,6 +229,7 @@ public class CategoryController {
 				.name(category.getName())
 				.description(category.getDescription())
 				.image(category.getImage())
+				.srcset(cloudService.srcset(category.getImage()))
 				.createdAt(category.getCreatedAt())
 				.updatedAt(category.getUpdatedAt())
 				.build();
@@ -234,6 +271,8 @@ public class CategoryController {
 		private String description;
 		@Schema(example = "photo.jpg", required = true)
 		private String image;
+		@Schema(accessMode = Schema.AccessMode.READ_ONLY)
+		private Map<String, String> srcset;
 		@Schema(pattern = "yyyy-MM-dd HH:mm:ss", example = "2022-04-02 18:58:56")
         @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
 		private LocalDateTime createdAt;
@@ -3,19 +3,23 @@ package com.alkemy.ong.web.controllers;
 import com.alkemy.ong.domain.comments.Comment;
 import com.alkemy.ong.domain.comments.CommentService;
 import com.alkemy.ong.domain.news.NewsService;
+import com.alkemy.ong.web.export.ExportFormat;
+import com.alkemy.ong.web.export.ExportWriter;
+import com.alkemy.ong.web.pagination.PageDTO;
+import com.alkemy.ong.web.pagination.PageDTOMapper;
+import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.*;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.NotNull;
-import java.util.List;
-
-import static java.util.stream.Collectors.toList;
+import java.time.LocalDateTime;
 
 import static com.alkemy.ong.web.utils.WebUtils.*;
 
@@ -26,17 +30,33 @@ public class CommentController {
 
     private final CommentService commentService;
     private final NewsService newsService;
+    private final ExportWriter exportWriter;
+    private final PageDTOMapper<CommentSlimDTO, Comment> pageDTOMapper;
 
-    public CommentController(CommentService commentService, NewsService newsService) {
+    public CommentController(CommentService commentService, NewsService newsService, ExportWriter exportWriter,
+                             PageDTOMapper<CommentSlimDTO, Comment> pageDTOMapper) {
         this.commentService = commentService;
         this.newsService = newsService;
+        this.exportWriter = exportWriter;
+        this.pageDTOMapper = pageDTOMapper;
+        this.pageDTOMapper.register(Comment.class, CommentSlimDTO.class, this::toSlimDTO);
     }
 
     @GetMapping
-    public ResponseEntity<List<CommentSlimDTO>> getAllComments() {
-        List<CommentSlimDTO> commentsSlimDTO;
-        commentsSlimDTO = commentService.findAll().stream().map(this::toSlimDTO).collect(toList());
-        return ResponseEntity.ok(commentsSlimDTO);
+    public ResponseEntity<PageDTO<CommentSlimDTO>> getAllComments(@RequestParam(value = "page", defaultValue = "0") int pageNumber) {
+        validatePageNumber(pageNumber);
+        return ResponseEntity.ok(pageDTOMapper.toPageDTO(commentService.findAll(pageNumber), CommentSlimDTO.class));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<PageDTO<CommentSlimDTO>> getAllCommentsByCursor(@RequestParam("cursor") String cursor) {
+        return ResponseEntity.ok(pageDTOMapper.toPageDTO(commentService.findAllByCursor(cursor), CommentSlimDTO.class));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportComments(@RequestParam(defaultValue = "ndjson") String format) {
+        return exportWriter.export("comments", ExportFormat.from(format), CommentExportDTO.class,
+                consumer -> commentService.exportComments(comment -> consumer.accept(toExportDTO(comment))));
     }
 
     @PostMapping
@@ -73,6 +93,17 @@ public class CommentController {
                 .build();
     }
 
+    private CommentExportDTO toExportDTO(Comment comment) {
+        return CommentExportDTO.builder()
+                .id(comment.getId())
+                .body(comment.getBody())
+                .user(comment.getUserId())
+                .newsId(comment.getNewsId())
+                .createdAt(comment.getCreatedAt())
+                .updatedAt(comment.getUpdatedAt())
+                .build();
+    }
+
     private CommentSlimDTO toSlimDTO(Comment comment) {
         return CommentSlimDTO.builder().body(comment.getBody()).build();
     }
@@ -105,7 +136,23 @@ public class CommentController {
     @Builder
     @AllArgsConstructor
     @NoArgsConstructor
-    private static class CommentSlimDTO {
+    public static class CommentSlimDTO {
         private String body;
     }
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class CommentExportDTO {
+        private Long id;
+        private String body;
+        private Long user;
+        private Long newsId;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime createdAt;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime updatedAt;
+    }
 }
\ No newline at end of file
@@ -2,48 +2,60 @@ package com.alkemy.ong.web.controllers;
 
 import com.alkemy.ong.domain.contacts.Contact;
 import com.alkemy.ong.domain.contacts.ContactService;
-import com.alkemy.ong.domain.mail.MailService;
+import com.alkemy.ong.web.export.ExportFormat;
+import com.alkemy.ong.web.export.ExportWriter;
+import com.alkemy.ong.web.pagination.PageDTO;
+import com.alkemy.ong.web.pagination.PageDTOMapper;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.*;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import javax.validation.constraints.Email;
 import javax.validation.constraints.NotEmpty;
 import java.time.LocalDateTime;
-import java.util.List;
 
+import static com.alkemy.ong.web.utils.WebUtils.validatePageNumber;
 import static java.net.URI.create;
-import static java.util.stream.Collectors.toList;
 
 @Tag(name = "8. Contacts")
 @RestController
 @RequestMapping("/contacts")
 public class ContactController {
     private final ContactService contactService;
-    private final MailService mailService;
+    private final ExportWriter exportWriter;
+    private final PageDTOMapper<ContactDTO, Contact> pageDTOMapper;
 
-    public ContactController(ContactService contactService, MailService mailService){
+    public ContactController(ContactService contactService, ExportWriter exportWriter, PageDTOMapper<ContactDTO, Contact> pageDTOMapper){
         this.contactService = contactService;
-        this.mailService = mailService;
+        this.exportWriter = exportWriter;
+        this.pageDTOMapper = pageDTOMapper;
+        this.pageDTOMapper.register(Contact.class, ContactDTO.class, this::toDTO);
     }
 
     @GetMapping()
-    public ResponseEntity<List<ContactDTO>> getAllContacts() throws Exception {
-        return ResponseEntity.ok(contactService.getContacts().stream()
-                .map(this::toDTO)
-                .collect(toList()));
+    public ResponseEntity<PageDTO<ContactDTO>> getAllContacts(@RequestParam(value = "page", defaultValue = "0") int pageNumber) {
+        validatePageNumber(pageNumber);
+        return ResponseEntity.ok(pageDTOMapper.toPageDTO(contactService.getContacts(pageNumber), ContactDTO.class));
+    }
+
+    @GetMapping(params = "cursor")
+    public ResponseEntity<PageDTO<ContactDTO>> getAllContactsByCursor(@RequestParam("cursor") String cursor) {
+        return ResponseEntity.ok(pageDTOMapper.toPageDTO(contactService.getContactsByCursor(cursor), ContactDTO.class));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportContacts(@RequestParam(defaultValue = "ndjson") String format) {
+        return exportWriter.export("contacts", ExportFormat.from(format), ContactDTO.class,
+                consumer -> contactService.exportContacts(contact -> consumer.accept(toDTO(contact))));
     }
 
     @PostMapping
     public ResponseEntity<ContactDTO> saveContact(@Valid @RequestBody ContactDTO contactDTO){
-    	String to = contactDTO.getEmail();
-        String subject = "Your contact details have been added!";
-        String body = "<br><strong>Message:</strong><br>"+contactDTO.getMessage();
-        mailService.sendMailWithTemplate(to, subject, body);
-        contactDTO = toDTO(contactService.saveContact(toModel(contactDTO)));        
+        contactDTO = toDTO(contactService.saveContact(toModel(contactDTO)));
         return ResponseEntity.created(create("contacts/" + contactDTO.getId())).body(contactDTO);
     }
 
@@ -1,7 +1,10 @@
 package com.alkemy.ong.web.controllers;
 
+import com.alkemy.ong.domain.cloud.CloudService;
 import com.alkemy.ong.domain.members.Member;
 import com.alkemy.ong.domain.members.MemberService;
+import com.alkemy.ong.web.bulk.BulkImporter;
+import com.alkemy.ong.web.bulk.BulkResultDTO;
 import com.alkemy.ong.web.pagination.PageDTOMapper;
 import com.alkemy.ong.web.pagination.PageDTO;
 import com.alkemy.ong.web.utils.WebUtils;
@@ -15,6 +18,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -22,6 +26,9 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.Pattern;
 
+import java.io.InputStream;
+import java.util.Map;
+
 @Tag(name = "3. Members")
 @RestController
 @RequestMapping
@@ -29,10 +36,15 @@ public class MemberController {
 
     private final MemberService memberService;
     private final PageDTOMapper<MemberDTO,Member> pageDTOMapper;
+    private final CloudService cloudService;
+    private final BulkImporter bulkImporter;
 
-    public MemberController(MemberService memberService, PageDTOMapper pageDTOMapper) {
+    public MemberController(MemberService memberService, PageDTOMapper pageDTOMapper, CloudService cloudService, BulkImporter bulkImporter) {
         this.memberService = memberService;
         this.pageDTOMapper =pageDTOMapper;
+        this.cloudService = cloudService;
+        this.bulkImporter = bulkImporter;
+        this.pageDTOMapper.register(Member.class, MemberDTO.class, this::toDTO);
     }
 
     @Operation(description = "Show a list of active members in the system, using pagination", operationId = "findAll", summary = "Show a list of the members actives")
@@ -64,6 +76,34 @@ public class MemberController {
                         .toPageDTO(memberService.findAll(numberPage),MemberDTO.class));
     }
 
+    @Operation(description = "Show a list of active members in the system, using cursor pagination", operationId = "findAllByCursor", summary = "Show a list of the members actives by cursor")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Show list of active members in the system."),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "BAD REQUEST",
+                            content = {
+                                    @Content(
+                                            schema = @Schema(implementation = String.class),
+                                            examples = @ExampleObject(
+                                                    name = "Message of error",
+                                                    summary = "400 from the server directly.",
+                                                    value = "The cursor is not valid"
+                                            )
+                                    )
+                            }
+                    )
+            })
+    @GetMapping(value = "/members", params = "cursor")
+    public ResponseEntity<PageDTO<MemberDTO>> findAllByCursor(@Parameter(description = "Cursor returned by the previous request, empty for the first page",example = "")@RequestParam("cursor") String cursor) {
+        return ResponseEntity.ok()
+                .body(pageDTOMapper
+                        .toPageDTO(memberService.findAllByCursor(cursor),MemberDTO.class));
+    }
+
     @Operation(description = "Adds an member to the system", operationId = "save", summary = "Adds an active member to the system")
     @ApiResponses(
             value = {
@@ -90,6 +130,30 @@ public class MemberController {
                 .body(toDTO(memberService.save(toModel(memberDTO))));
     }
 
+    @Operation(description = "Adds members to the system from a JSON array or an NDJSON stream", operationId = "saveAll", summary = "Adds members in bulk")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(
+                            responseCode = "200",
+                            description = "Show the ids of the created members and the rows that were rejected."),
+                    @ApiResponse(
+                            responseCode = "400",
+                            description = "BAD REQUEST",
+                            content = { @Content(
+                                    schema = @Schema(implementation = String.class),
+                                    examples = @ExampleObject(
+                                            name = "Message of error",
+                                            summary = "400 from the server directly.",
+                                            value = "The body is not valid JSON near row 3.")
+                            )
+                            }
+                    )
+            })
+    @PostMapping(value = "/members/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, BulkImporter.NDJSON})
+    public ResponseEntity<BulkResultDTO> saveAll(@Parameter(description = "Members to add") InputStream body) {
+        return ResponseEntity.ok(bulkImporter.importRows(body, MemberDTO.class, this::toNewModel, memberService::saveAll, Member::getId));
+    }
+
     @Operation(description = "Remove a member from the system", operationId = "delete", summary = "Change member status to inactive")
     @ApiResponses(
             value = {
@@ -163,6 +227,7 @@ public class MemberController {
                 .instagramUrl(member.getInstagramUrl())
                 .linkedinUrl(member.getLinkedinUrl())
                 .image(member.getImage())
+                .srcset(cloudService.srcset(member.getImage()))
                 .description(member.getDescription())
                 .build();
     }
@@ -179,6 +244,11 @@ public class MemberController {
                 .build();
     }
 
+    private Member toNewModel(MemberDTO memberDTO) {
+        memberDTO.setId(null);
+        return toModel(memberDTO);
+    }
+
     @NoArgsConstructor
     @AllArgsConstructor
     @Getter
@@ -207,6 +277,9 @@ public class MemberController {
         @Schema(example = "photo.jpg", required = true)
         private String image;
 
+        @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+        private Map<String, String> srcset;
+
         @Schema(example = "some description of the member", required = true)
         private String description;
     }
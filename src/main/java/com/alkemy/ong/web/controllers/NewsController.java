@@ -1,6 +1,8 @@
 package com.alkemy.ong.web.controllers;
 
+import com.alkemy.ong.domain.cloud.CloudService;
 import com.alkemy.ong.domain.comments.Comment;
+import com.alkemy.ong.domain.comments.CommentService;
 import com.alkemy.ong.domain.news.News;
 import com.alkemy.ong.domain.news.NewsService;
 import com.alkemy.ong.web.pagination.PageDTO;
@@ -25,6 +27,7 @@ import javax.validation.constraints.NotEmpty;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static com.alkemy.ong.web.utils.WebUtils.validateDtoIdWithBodyId;
 import static java.util.stream.Collectors.toList;
@@ -36,10 +39,18 @@ public class NewsController {
 
     private final NewsService newsService;
     private final PageDTOMapper<NewsDTO, News> pageDTOMapper;
+    private final CloudService cloudService;
+    private final CommentService commentService;
+    private final PageDTOMapper<CommentDTO, Comment> commentPageMapper;
 
-    public NewsController(NewsService newsService, PageDTOMapper pageMapper) {
+    public NewsController(NewsService newsService, PageDTOMapper pageMapper, CloudService cloudService, CommentService commentService) {
         this.newsService = newsService;
         this.pageDTOMapper = pageMapper;
+        this.cloudService = cloudService;
+        this.commentService = commentService;
+        this.commentPageMapper = pageMapper;
+        this.pageDTOMapper.register(News.class, NewsDTO.class, this::toDTO);
+        this.commentPageMapper.register(Comment.class, CommentDTO.class, this::toCommentDTO);
     }
 
     @Operation(summary = "Show a list of news, using pagination")
@@ -52,6 +63,19 @@ public class NewsController {
                         .toPageDTO(newsService.findAll(numberPage), NewsDTO.class));
     }
 
+    @Operation(summary = "Show a list of news, using cursor pagination")
+    @ApiResponses( value = {
+            @ApiResponse(responseCode = "200", description = "Show a list of news"),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST", content = { @Content( schema = @Schema(implementation = String.class),
+                    examples = @ExampleObject(value = "The cursor is not valid"))}),
+    })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<PageDTO<NewsDTO>> findAllByCursor(@Parameter(description = "Cursor returned by the previous request, empty for the first page",example = "")@RequestParam("cursor") String cursor) {
+        return ResponseEntity.ok()
+                .body(pageDTOMapper
+                        .toPageDTO(newsService.findAllByCursor(cursor), NewsDTO.class));
+    }
+
     @Operation(summary = "Find a news by ID")
     @ApiResponses( value = {
             @ApiResponse(responseCode = "200", description = "Show details of the news", content = { @Content( schema = @Schema(implementation = NewsDTO.class))}),
@@ -64,16 +88,18 @@ public class NewsController {
         return ResponseEntity.ok(toDTO(news));
     }
 
-    @Operation(summary = "Show a list of comments by news ID")
+    @Operation(summary = "Show the comments of a news, newest first, using cursor pagination")
     @ApiResponses( value = {
-            @ApiResponse(responseCode = "200", description = "Show details of the news", content = { @Content( schema = @Schema(implementation = NewsDTO.class))}),
+            @ApiResponse(responseCode = "200", description = "Show a page of comments of the news"),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST", content = { @Content( schema = @Schema(implementation = String.class),
+                    examples = @ExampleObject(value = "The cursor is not valid"))}),
             @ApiResponse(responseCode = "404", description = "NOT FOUND", content = { @Content( schema = @Schema(implementation = String.class),
                     examples = @ExampleObject(value = "News not found"))}),
     })
     @GetMapping("/posts/{id}/comments")
-    public ResponseEntity<NewsDTO> getComments(@Parameter(example = "1")@PathVariable ("id") Long id) {
-        News news = newsService.findById(id);
-        return ResponseEntity.ok(toDTO(news));
+    public ResponseEntity<PageDTO<CommentDTO>> getComments(@Parameter(example = "1")@PathVariable ("id") Long id,
+                                                           @Parameter(description = "Cursor returned by the previous request, empty for the first page",example = "")@RequestParam(value = "cursor", required = false) String cursor) {
+        return ResponseEntity.ok(commentPageMapper.toPageDTO(commentService.findByNewsId(id, cursor), CommentDTO.class));
     }
 
     @Operation(summary = "Create a news")
@@ -130,13 +156,14 @@ public class NewsController {
     }
 
     private NewsDTO toDTO(News news) {
-        news.getComments().stream().map(this::toCommentDTO).collect(toList());
         return NewsDTO.builder()
                 .newsId(news.getNewsId())
                 .name(news.getName())
                 .content(news.getContent())
                 .image(news.getImage())
+                .srcset(cloudService.srcset(news.getImage()))
                 .type(news.getType())
+                .commentCount(news.getCommentCount())
                 .comments(news.getComments()
                         .stream()
                         .map(this::toCommentDTO)
@@ -184,9 +211,15 @@ public class NewsController {
         @NotEmpty(message = "The image field cannot be empty.")
         private String image;
 
+        @Schema(accessMode = Schema.AccessMode.READ_ONLY)
+        private Map<String, String> srcset;
+
         @Schema(example = "news")
         private String type = "news";
 
+        @Schema(accessMode = Schema.AccessMode.READ_ONLY, example = "3")
+        private Long commentCount;
+
         @Schema(example = "Comments")
         private List<CommentDTO> comments = new ArrayList<>();
     }
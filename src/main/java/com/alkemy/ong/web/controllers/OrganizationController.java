@@ -4,10 +4,13 @@ import com.alkemy.ong.data.entities.SlidesEntity;
 import com.alkemy.ong.domain.organization.Organization;
 import com.alkemy.ong.domain.organization.OrganizationService;
 import com.alkemy.ong.web.utils.WebUtils;
+import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.Builder;
 import lombok.Data;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -24,10 +27,12 @@ public class OrganizationController {
         this.organizationService = organizationService;
     }
 
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = Organization.class)))
     @GetMapping("/public/{id}")
-    public ResponseEntity<Organization> getOrganization(@PathVariable Long id){
-        Organization organization = organizationService.findById(id);
-        return ResponseEntity.ok(organization);
+    public ResponseEntity<byte[]> getOrganization(@PathVariable Long id){
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(organizationService.findPublicView(id));
     }
 
     @PutMapping("/public/{idOrganization}")
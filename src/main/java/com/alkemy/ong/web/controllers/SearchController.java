@@ -0,0 +1,73 @@
+package com.alkemy.ong.web.controllers;
+
+import com.alkemy.ong.domain.search.SearchHit;
+import com.alkemy.ong.domain.search.SearchService;
+import com.alkemy.ong.web.pagination.PageDTO;
+import com.alkemy.ong.web.pagination.PageDTOMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import static com.alkemy.ong.web.utils.WebUtils.validatePageNumber;
+
+@Tag(name = "10. Search")
+@RestController
+@RequestMapping("/search")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final PageDTOMapper<SearchHitDTO, SearchHit> pageDTOMapper;
+
+    public SearchController(SearchService searchService, PageDTOMapper pageDTOMapper) {
+        this.searchService = searchService;
+        this.pageDTOMapper = pageDTOMapper;
+        this.pageDTOMapper.register(SearchHit.class, SearchHitDTO.class, this::toDto);
+    }
+
+    @Operation(summary = "Search news, activities and testimonials, most relevant first")
+    @GetMapping
+    public ResponseEntity<PageDTO<SearchHitDTO>> search(@RequestParam("q") String query,
+                                                        @RequestParam(value = "page", defaultValue = "0") int page) {
+        validatePageNumber(page);
+        return ResponseEntity.ok(pageDTOMapper.toPageDTO(searchService.search(query, page), SearchHitDTO.class));
+    }
+
+    private SearchHitDTO toDto(SearchHit hit) {
+        return SearchHitDTO.builder()
+                .type(hit.getType().name().toLowerCase())
+                .id(hit.getId())
+                .title(hit.getTitle())
+                .snippet(hit.getSnippet())
+                .score(hit.getScore())
+                .build();
+    }
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SearchHitDTO {
+
+        @Schema(example = "news")
+        private String type;
+
+        @Schema(example = "1")
+        private Long id;
+
+        @Schema(example = "Jornada de <em>alfabetización</em>")
+        private String title;
+
+        @Schema(example = "…los voluntarios acompañaron la jornada de <em>alfabetización</em> en el barrio…")
+        private String snippet;
+
+        @Schema(example = "2.35")
+        private double score;
+    }
+}
@@ -1,16 +1,20 @@
 package com.alkemy.ong.web.controllers;
 
+import com.alkemy.ong.domain.cloud.CloudService;
 import com.alkemy.ong.domain.slides.Slides;
 import com.alkemy.ong.domain.slides.SlidesService;
 import com.alkemy.ong.web.utils.WebUtils;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Slides")
 @RestController
@@ -18,9 +22,11 @@ import java.util.List;
 public class SlidesController {
 
     private final SlidesService slidesService;
+    private final CloudService cloudService;
 
-    public SlidesController(SlidesService slidesService) {
+    public SlidesController(SlidesService slidesService, CloudService cloudService) {
         this.slidesService = slidesService;
+        this.cloudService = cloudService;
     }
 
     @GetMapping
@@ -45,6 +51,14 @@ public class SlidesController {
         return ResponseEntity.ok(slidesDto);
     }
 
+    @PutMapping("/order")
+    public ResponseEntity<List<SlidesDto>> reorder(@RequestBody SlidesOrderDTO slidesOrder){
+        return ResponseEntity.ok(slidesService.reorder(slidesOrder.getIdOrganization(), slidesOrder.getSlides())
+                .stream()
+                .map(this::toFullDto)
+                .toList());
+    }
+
     @PostMapping
     public ResponseEntity create(@RequestBody SlidesDto slides) throws Exception {
         SlidesDto slidesDto = toFullDto(slidesService.createSlides(toModel(slides)));
@@ -60,6 +74,7 @@ public class SlidesController {
     private SlidesSimpleDTO toDto(Slides slides){
         return SlidesSimpleDTO.builder()
                 .imageUrl(slides.getImageUrl())
+                .srcset(cloudService.srcset(slides.getImageUrl()))
                 .order(slides.getOrder())
                 .build();
     }
@@ -68,6 +83,7 @@ public class SlidesController {
         return SlidesDto.builder()
                 .idSlides(slides.getIdSlides())
                 .imageUrl(slides.getImageUrl())
+                .srcset(cloudService.srcset(slides.getImageUrl()))
                 .text(slides.getText())
                 .order(slides.getOrder())
                 .idOrganization(slides.getIdOrganization())
@@ -88,14 +104,25 @@ public class SlidesController {
     @Builder
     public static class SlidesSimpleDTO{
         private String imageUrl;
+        private Map<String, String> srcset;
         private Integer order;
     }
 
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SlidesOrderDTO{
+        private Long idOrganization;
+        private List<Long> slides;
+    }
+
     @Data
     @Builder
     public static class SlidesDto{
         private Long idSlides;
         private String imageUrl;
+        private Map<String, String> srcset;
         private String text;
         private Integer order;
         private Long idOrganization;
@@ -2,17 +2,21 @@ package com.alkemy.ong.web.controllers;
 
 import com.alkemy.ong.domain.testimonial.Testimonial;
 import com.alkemy.ong.domain.testimonial.TestimonialService;
+import com.alkemy.ong.web.bulk.BulkImporter;
+import com.alkemy.ong.web.bulk.BulkResultDTO;
 import com.alkemy.ong.web.pagination.PageDTO;
 import com.alkemy.ong.web.pagination.PageDTOMapper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.*;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
+import java.io.InputStream;
 import java.util.List;
 import static java.util.stream.Collectors.toList;
 import static com.alkemy.ong.web.utils.WebUtils.*;
@@ -24,10 +28,13 @@ public class TestimonialController {
 
     private final TestimonialService testimonialService;
     private final PageDTOMapper<TestimonialDTO,Testimonial> pageDTOMapper;
+    private final BulkImporter bulkImporter;
 
-    public TestimonialController(TestimonialService testimonialService, PageDTOMapper pageDTOMapper) {
+    public TestimonialController(TestimonialService testimonialService, PageDTOMapper pageDTOMapper, BulkImporter bulkImporter) {
         this.testimonialService = testimonialService;
         this.pageDTOMapper =pageDTOMapper;
+        this.bulkImporter = bulkImporter;
+        this.pageDTOMapper.register(Testimonial.class, TestimonialDTO.class, this::toDto);
     }
 
     @PostMapping
@@ -35,6 +42,11 @@ public class TestimonialController {
         return new ResponseEntity<>(toDto(testimonialService.save(toModel(testimonialDTO))), HttpStatus.CREATED);
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, BulkImporter.NDJSON})
+    public ResponseEntity<BulkResultDTO> createTestimonials(InputStream body) {
+        return new ResponseEntity<>(bulkImporter.importRows(body, TestimonialDTO.class, this::toNewModel, testimonialService::saveAll, Testimonial::getId), HttpStatus.OK);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<TestimonialDTO> updateTestimonial(@PathVariable("id") Long id, @Valid @RequestBody TestimonialDTO testimonialDTO) {
         validateDtoIdWithBodyId(id, testimonialDTO.getId());
@@ -63,6 +75,11 @@ public class TestimonialController {
                 .build();
     }
 
+    private Testimonial toNewModel(TestimonialDTO testimonialDTO) {
+        testimonialDTO.setId(null);
+        return toModel(testimonialDTO);
+    }
+
     private TestimonialDTO toDto(Testimonial testimonial) {
         return TestimonialDTO.builder()
                 .id(testimonial.getId())
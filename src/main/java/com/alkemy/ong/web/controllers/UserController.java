@@ -4,6 +4,8 @@ import com.alkemy.ong.domain.exceptions.ForbiddenException;
 import com.alkemy.ong.domain.security.jwt.JwtUtil;
 import com.alkemy.ong.domain.users.User;
 import com.alkemy.ong.domain.users.UserService;
+import com.alkemy.ong.web.export.ExportFormat;
+import com.alkemy.ong.web.export.ExportWriter;
 import com.alkemy.ong.web.pagination.PageDTO;
 import com.alkemy.ong.web.pagination.PageDTOMapper;
 import com.alkemy.ong.web.utils.WebUtils;
@@ -26,6 +28,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
 import java.time.LocalDateTime;
@@ -38,11 +41,14 @@ public class UserController {
     private final UserService userService;
     private final JwtUtil jwtUtil;
     private final PageDTOMapper<UserDTO,User> pageDTOMapper;
+    private final ExportWriter exportWriter;
 
-    public UserController(UserService userService, JwtUtil jwtUtil,PageDTOMapper<UserDTO,User> pageDTOMapper) {
+    public UserController(UserService userService, JwtUtil jwtUtil,PageDTOMapper<UserDTO,User> pageDTOMapper, ExportWriter exportWriter) {
         this.userService = userService;
         this.jwtUtil = jwtUtil;
         this.pageDTOMapper=pageDTOMapper;
+        this.exportWriter = exportWriter;
+        this.pageDTOMapper.register(User.class, UserDTO.class, this::toDTO);
     }
 
     @Operation(summary = "Delete a user")
@@ -106,8 +112,45 @@ public class UserController {
                 .body(pageDTOMapper.toPageDTO(userService.findAll(pageNumber),UserDTO.class));
     }
 
+    @Operation(description = "Show a list of active users in the system, using cursor pagination", operationId = "findAllByCursor", summary = "Show a list of the users actives by cursor")
+    @ApiResponses(
+            value = {
+                    @ApiResponse(responseCode = "200", description = "Show list of active users in the system."),
+                    @ApiResponse(
+                            responseCode = "400", description = "BAD REQUEST",
+                            content = { @Content(schema = @Schema(implementation = String.class),
+                                            examples = @ExampleObject(
+                                                    name = "Message of error",
+                                                    summary = "400 from the server directly.",
+                                                    value = "The cursor is not valid"
+                                            )
+                                    )
+                            }
+                    )
+            })
+    @GetMapping(params = "cursor")
+    public ResponseEntity<PageDTO<UserDTO>> findAllByCursor(@Parameter(description = "Cursor returned by the previous request, empty for the first page",example = "")@RequestParam("cursor") String cursor) {
+        return ResponseEntity.ok()
+                .body(pageDTOMapper.toPageDTO(userService.findAllByCursor(cursor),UserDTO.class));
+    }
+
+    @Operation(description = "Download every active user as NDJSON or CSV, written while the rows are read", operationId = "export", summary = "Export the users")
+    @ApiResponses( value = {
+            @ApiResponse(responseCode = "200", description = "Users export"),
+            @ApiResponse(responseCode = "400", description = "BAD REQUEST", content = { @Content( schema = @Schema(implementation = String.class),
+                    examples = @ExampleObject(value = "The export format must be ndjson or csv."))}),
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(@Parameter(description = "ndjson or csv", example = "csv")@RequestParam(defaultValue = "ndjson") String format) {
+        return exportWriter.export("users", ExportFormat.from(format), UserExportDTO.class,
+                consumer -> userService.exportUsers(user -> consumer.accept(toExportDTO(user))));
+    }
+
     private void verifyUser(Long id, String token){
-        if (userService.findByEmail(jwtUtil.extractEmail(token)).getId() != id)
+        Long userId = jwtUtil.extractUserId(token);
+        if (userId == null)
+            userId = userService.findByEmail(jwtUtil.extractEmail(token)).getId();
+        if (!id.equals(userId))
             throw new ForbiddenException("Does not have authorization");
     }
 
@@ -125,6 +168,19 @@ public class UserController {
                 .build();
     }
 
+    private UserExportDTO toExportDTO(User user) {
+        return UserExportDTO.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .photo(user.getPhoto())
+                .roleId(user.getRoleId())
+                .createdAt(user.getCreatedAt())
+                .updatedAt(user.getUpdatedAt())
+                .build();
+    }
+
     private User toModel(UserDTO userDTO){
         return User.builder()
                 .id(userDTO.getId())
@@ -165,4 +221,23 @@ public class UserController {
         @Schema(example = "USER")
         private Long roleId;
     }
+
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Getter
+    @Setter
+    @Builder
+    @Schema(description = "User row of the export, without the password")
+    public static class UserExportDTO {
+        private Long id;
+        private String firstName;
+        private String lastName;
+        private String email;
+        private String photo;
+        private Long roleId;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime createdAt;
+        @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+        private LocalDateTime updatedAt;
+    }
 }
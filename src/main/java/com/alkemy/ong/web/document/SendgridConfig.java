@@ -1,6 +1,9 @@
 package com.alkemy.ong.web.document;
 
+import com.sendgrid.Client;
 import com.sendgrid.SendGrid;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.HttpClients;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,9 +13,24 @@ public class SendgridConfig {
 
     @Value("${sendgridProperties.apiKey}")
     private String apiKey;
+    @Value("${sendgridProperties.connectTimeout:2000}")
+    private int connectTimeout;
+    @Value("${sendgridProperties.readTimeout:5000}")
+    private int readTimeout;
+    @Value("${sendgridProperties.maxConnections:10}")
+    private int maxConnections;
 
     @Bean
     public SendGrid getSendgrid(){
-        return new SendGrid(apiKey);
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout(connectTimeout)
+                .setConnectionRequestTimeout(connectTimeout)
+                .setSocketTimeout(readTimeout)
+                .build();
+        return new SendGrid(apiKey, new Client(HttpClients.custom()
+                .setDefaultRequestConfig(requestConfig)
+                .setMaxConnPerRoute(maxConnections)
+                .setMaxConnTotal(maxConnections)
+                .build()));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.alkemy.ong.web.export;
+
+import com.alkemy.ong.domain.exceptions.WebRequestException;
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public static ExportFormat from(String format) {
+        for (ExportFormat value : values()) {
+            if (value.extension.equalsIgnoreCase(format)) {
+                return value;
+            }
+        }
+        throw new WebRequestException("The export format must be ndjson or csv.");
+    }
+}
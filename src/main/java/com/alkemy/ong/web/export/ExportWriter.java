@@ -0,0 +1,91 @@
+package com.alkemy.ong.web.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+@Component
+public class ExportWriter {
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper;
+
+    public ExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = new CsvMapper();
+        this.csvMapper.findAndRegisterModules();
+        this.csvMapper.registerModule(new SimpleModule().addSerializer(String.class, new SpreadsheetSafeStringSerializer()));
+        this.csvMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        this.csvMapper.disable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY);
+    }
+
+    /**
+     * Builds a download whose rows are serialized one at a time while {@code source} feeds them, so only the
+     * generator buffer is held in memory regardless of how many rows are exported.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> export(String name, ExportFormat format, Class<T> rowType,
+                                                            Consumer<Consumer<T>> source) {
+        ObjectWriter writer = writerFor(format, rowType).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = output -> {
+            try (SequenceWriter rows = writer.writeValues(output)) {
+                source.accept(row -> write(rows, row));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(name + "." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    private ObjectWriter writerFor(ExportFormat format, Class<?> rowType) {
+        return switch (format) {
+            case NDJSON -> objectMapper.writerFor(rowType).withRootValueSeparator("\n");
+            case CSV -> csvMapper.writerFor(rowType).with(csvMapper.schemaFor(rowType).withHeader());
+        };
+    }
+
+    /**
+     * Prefixes cells that a spreadsheet would evaluate as a formula with a quote, so user-submitted text such as
+     * a contact message is shown as typed instead of being run when the export is opened.
+     */
+    private static class SpreadsheetSafeStringSerializer extends StdScalarSerializer<String> {
+
+        SpreadsheetSafeStringSerializer() {
+            super(String.class);
+        }
+
+        @Override
+        public void serialize(String value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            boolean formula = !value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0;
+            generator.writeString(formula ? "'" + value : value);
+        }
+    }
+
+    private static <T> void write(SequenceWriter rows, T row) {
+        try {
+            rows.write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
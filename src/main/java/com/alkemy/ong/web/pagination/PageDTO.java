@@ -19,4 +19,13 @@ public class PageDTO<T> {
 
     @Schema(example = "This is the last page", required = true)
     private String nextPage;
+
+    @Schema(example = "YToxMA")
+    private String nextCursor;
+
+    @Schema(example = "YjoxMQ")
+    private String previousCursor;
+
+    @Schema(example = "120")
+    private Long approximateTotal;
 }
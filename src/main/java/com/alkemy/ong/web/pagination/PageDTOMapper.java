@@ -1,37 +1,48 @@
 package com.alkemy.ong.web.pagination;
 
+import com.alkemy.ong.configuration.MapperRegistry;
 import com.alkemy.ong.data.pagination.PageModel;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import static java.util.stream.Collectors.toList;
 
 @Component
 public class PageDTOMapper<T,S>{
-    private final ModelMapper modelMapper;
+    private final MapperRegistry mapperRegistry;
 
-    public PageDTOMapper(ModelMapper modelMapper){
-        this.modelMapper=modelMapper;
+    public PageDTOMapper(MapperRegistry mapperRegistry){
+        this.mapperRegistry=mapperRegistry;
+    }
+
+    public void register(Class<S> modelClass, Class<T> DTOClass, Function<S, T> mapper){
+        mapperRegistry.register(modelClass, DTOClass, mapper);
     }
 
     public PageDTO<T> toPageDTO(PageModel<S> pageModel, Class<T> DTOClass){
         PageDTO<T> pageDTO = new PageDTO<>();
 
-        List<T> bodyDTO = pageModel.getBody()
-                .stream()
-                .map(m->toDTO(m,DTOClass))
-                .collect(toList());
+        List<S> bodyModel = pageModel.getBody();
+        List<T> bodyDTO = bodyModel.isEmpty()
+                ? new ArrayList<>()
+                : bodyModel.stream()
+                        .map(mapperRegistry.<S, T>mapperFor(bodyModel.get(0).getClass(), DTOClass))
+                        .collect(toList());
 
         pageDTO.setBody(bodyDTO);
         pageDTO.setPreviuosPage(pageModel.getPreviousPage());
         pageDTO.setNextPage(pageModel.getNextPage());
+        pageDTO.setNextCursor(pageModel.getNextCursor());
+        pageDTO.setPreviousCursor(pageModel.getPreviousCursor());
+        pageDTO.setApproximateTotal(pageModel.getApproximateTotal());
 
         return pageDTO;
     }
 
     public T toDTO (S model, Class<T> DTOClass){
-        return modelMapper.map(model, DTOClass);
+        return mapperRegistry.map(model, DTOClass);
     }
 }
@@ -139,4 +139,11 @@ INSERT INTO `alkemy_ong`.`members` (`id`,`name`, `facebookurl`, `instagramurl`,
 
 INSERT INTO `alkemy_ong`.`members` (`id`,`name`, `facebookurl`, `instagramurl`, `linkedinurl`, `image`, `description`, `deleted`)
  VALUES
-(2,'Camila', 'www.faceCami.com', 'www.instaCami.com', 'www.linkCami', 'cami.jpg', 'Desc de Camila', 0);
\ No newline at end of file
+(2,'Camila', 'www.faceCami.com', 'www.instaCami.com', 'www.linkCami', 'cami.jpg', 'Desc de Camila', 0);
+
+INSERT INTO hibernate_sequences (sequence_name, next_val) SELECT 'members', COALESCE(MAX(id), 0) + 1 FROM alkemy_ong.members
+ ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO hibernate_sequences (sequence_name, next_val) SELECT 'activities', COALESCE(MAX(id), 0) + 1 FROM activities
+ ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+INSERT INTO hibernate_sequences (sequence_name, next_val) SELECT 'testimonials', COALESCE(MAX(id), 0) + 1 FROM testimonials
+ ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
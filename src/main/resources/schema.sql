@@ -80,6 +80,13 @@ CREATE TABLE IF NOT EXISTS contacts (
   PRIMARY KEY (id)
 );
 
+-- MySQL has no IF NOT EXISTS for indexes and columns, so these run only when information_schema lacks them.
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'contacts' AND index_name = 'idx_contacts_deleted_created') = 0,
+  'CREATE INDEX idx_contacts_deleted_created ON contacts (deleted, created_at)', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
 
 CREATE TABLE IF NOT EXISTS organizations (
   id_organization BIGINT UNSIGNED NOT NULL PRIMARY KEY AUTO_INCREMENT,
@@ -109,6 +116,17 @@ CREATE TABLE if NOT EXISTS slides (
     organization_id BIGINT unsigned NOT NULL
 );
 
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'slides' AND column_name = 'active_order') = 0,
+  'ALTER TABLE slides ADD COLUMN active_order INT AS (IF(deleted = 1, NULL, slide_order)) STORED', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'slides' AND index_name = 'uk_slides_organization_order') = 0,
+  'CREATE UNIQUE INDEX uk_slides_organization_order ON slides (organization_id, active_order)', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
 CREATE TABLE IF NOT EXISTS testimonials (
 id BIGINT(255) NOT NULL AUTO_INCREMENT PRIMARY KEY,
 name VARCHAR (255) NOT NULL,
@@ -140,4 +158,44 @@ CREATE TABLE IF NOT EXISTS comments (
   PRIMARY KEY (id),
   FOREIGN KEY (`user_id`) REFERENCES `users` (`id`),
   FOREIGN KEY (`news_id`) REFERENCES `news` (`news_id`)
-);
\ No newline at end of file
+);
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_comments_deleted_created') = 0,
+  'CREATE INDEX idx_comments_deleted_created ON comments (deleted, created_at)', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.statistics WHERE table_schema = DATABASE() AND table_name = 'comments' AND index_name = 'idx_comments_news_deleted_created') = 0,
+  'CREATE INDEX idx_comments_news_deleted_created ON comments (news_id, deleted, created_at)', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
+CREATE TABLE IF NOT EXISTS mail_outbox (
+  `id` BIGINT NOT NULL AUTO_INCREMENT,
+  `recipient` VARCHAR(250) NOT NULL,
+  `subject` VARCHAR(250) NOT NULL,
+  `body` TEXT NOT NULL,
+  `status` VARCHAR(20) NOT NULL,
+  `attempts` INT NOT NULL DEFAULT 0,
+  `next_attempt_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  `last_error` VARCHAR(500),
+  `claimed_by` VARCHAR(36),
+  `created_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  `updated_at` TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+  PRIMARY KEY (id),
+  INDEX `idx_mail_outbox_due` (`status`, `next_attempt_at`),
+  INDEX `idx_mail_outbox_claimed_by` (`claimed_by`)
+);
+
+SET @ddl = IF((SELECT COUNT(*) FROM information_schema.columns WHERE table_schema = DATABASE() AND table_name = 'mail_outbox' AND column_name = 'claimed_by') = 0,
+  'ALTER TABLE mail_outbox ADD COLUMN claimed_by VARCHAR(36), ADD INDEX idx_mail_outbox_claimed_by (claimed_by)', 'DO 0');
+PREPARE ddl FROM @ddl;
+EXECUTE ddl;
+DEALLOCATE PREPARE ddl;
+
+CREATE TABLE IF NOT EXISTS hibernate_sequences (
+  `sequence_name` VARCHAR(255) NOT NULL,
+  `next_val` BIGINT NOT NULL,
+  PRIMARY KEY (sequence_name)
+);
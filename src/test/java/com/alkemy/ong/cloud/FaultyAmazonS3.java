@@ -0,0 +1,60 @@
+package com.alkemy.ong.cloud;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class FaultyAmazonS3 extends InMemoryAmazonS3 {
+
+    private final AtomicInteger putObjectCalls = new AtomicInteger();
+    private volatile Duration latency = Duration.ZERO;
+    private volatile boolean failing;
+    private volatile boolean denying;
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        putObjectCalls.incrementAndGet();
+        if (failing) {
+            throw new SdkClientException("Injected S3 failure");
+        }
+        if (denying) {
+            AmazonS3Exception denied = new AmazonS3Exception("Access Denied");
+            denied.setStatusCode(403);
+            throw denied;
+        }
+        try {
+            Thread.sleep(latency.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SdkClientException("Interrupted while stalling");
+        }
+        return super.putObject(request);
+    }
+
+    public void setLatency(Duration latency) {
+        this.latency = latency;
+    }
+
+    public void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    public void setDenying(boolean denying) {
+        this.denying = denying;
+    }
+
+    public int getPutObjectCalls() {
+        return putObjectCalls.get();
+    }
+
+    public void reset() {
+        latency = Duration.ZERO;
+        failing = false;
+        denying = false;
+        putObjectCalls.set(0);
+    }
+}
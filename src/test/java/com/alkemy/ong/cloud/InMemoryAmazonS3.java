@@ -0,0 +1,108 @@
+package com.alkemy.ong.cloud;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AbstractAmazonS3;
+import com.amazonaws.services.s3.model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InMemoryAmazonS3 extends AbstractAmazonS3 {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, SortedMap<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger completedMultipartUploads = new AtomicInteger();
+
+    @Override
+    public PutObjectResult putObject(PutObjectRequest request) {
+        try (InputStream inputStream = request.getFile() != null
+                ? new FileInputStream(request.getFile())
+                : request.getInputStream()) {
+            objects.put(request.getKey(), inputStream.readAllBytes());
+        } catch (IOException e) {
+            throw new SdkClientException(e);
+        }
+        return new PutObjectResult();
+    }
+
+    @Override
+    public InitiateMultipartUploadResult initiateMultipartUpload(InitiateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentSkipListMap<>());
+        InitiateMultipartUploadResult result = new InitiateMultipartUploadResult();
+        result.setBucketName(request.getBucketName());
+        result.setKey(request.getKey());
+        result.setUploadId(uploadId);
+        return result;
+    }
+
+    @Override
+    public UploadPartResult uploadPart(UploadPartRequest request) {
+        try {
+            uploads.get(request.getUploadId()).put(request.getPartNumber(), request.getInputStream().readAllBytes());
+        } catch (IOException e) {
+            throw new SdkClientException(e);
+        }
+        UploadPartResult result = new UploadPartResult();
+        result.setPartNumber(request.getPartNumber());
+        result.setETag(String.valueOf(request.getPartNumber()));
+        return result;
+    }
+
+    @Override
+    public CompleteMultipartUploadResult completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        uploads.remove(request.getUploadId()).values().forEach(object::writeBytes);
+        objects.put(request.getKey(), object.toByteArray());
+        completedMultipartUploads.incrementAndGet();
+        return new CompleteMultipartUploadResult();
+    }
+
+    @Override
+    public void abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.getUploadId());
+    }
+
+    @Override
+    public S3Object getObject(String bucketName, String key) {
+        byte[] bytes = objects.get(key);
+        if (bytes == null) {
+            throw new SdkClientException("No object with key " + key);
+        }
+        S3Object object = new S3Object();
+        object.setBucketName(bucketName);
+        object.setKey(key);
+        object.setObjectContent(new ByteArrayInputStream(bytes));
+        return object;
+    }
+
+    @Override
+    public void deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.getKey());
+    }
+
+    public byte[] getObjectBytes(String key) {
+        return objects.get(key);
+    }
+
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    public int getCompletedMultipartUploads() {
+        return completedMultipartUploads.get();
+    }
+
+    public int getPendingMultipartUploads() {
+        return uploads.size();
+    }
+}
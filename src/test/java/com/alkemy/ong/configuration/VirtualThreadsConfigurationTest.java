@@ -0,0 +1,78 @@
+package com.alkemy.ong.configuration;
+
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.context.annotation.UserConfigurations;
+import org.springframework.boot.test.context.assertj.AssertableWebApplicationContext;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.AnnotationConfigServletWebServerApplicationContext;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsConfigurationTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner(AnnotationConfigServletWebServerApplicationContext::new)
+            .withConfiguration(AutoConfigurations.of(ServletWebServerFactoryAutoConfiguration.class))
+            .withConfiguration(UserConfigurations.of(VirtualThreadsConfiguration.class))
+            .withPropertyValues("server.port=0");
+
+    @Test
+    void tomcatKeepsItsThreadPoolByDefault() {
+        contextRunner.run(context -> {
+            assertTrue(context.getBeansOfType(VirtualThreadsConfiguration.class).isEmpty());
+            assertTrue(tomcatExecutor(context) instanceof ThreadPoolExecutor);
+        });
+    }
+
+    @Test
+    void tomcatKeepsItsThreadPoolWhenDisabled() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=false").run(context -> {
+            assertTrue(context.getBeansOfType(VirtualThreadsConfiguration.class).isEmpty());
+            assertTrue(tomcatExecutor(context) instanceof ThreadPoolExecutor);
+        });
+    }
+
+    @Test
+    void startupFailsBeforeJava21() {
+        assumeTrue(Runtime.version().feature() < 21);
+
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            Throwable failure = context.getStartupFailure();
+            assertNotNull(failure);
+            while (failure.getCause() != null) {
+                failure = failure.getCause();
+            }
+            assertTrue(failure instanceof IllegalStateException);
+            assertEquals("spring.threads.virtual.enabled needs Java 21 or newer, running on " + Runtime.version(), failure.getMessage());
+        });
+    }
+
+    @Test
+    void tomcatRunsRequestsOnVirtualThreadsFromJava21() {
+        assumeTrue(Runtime.version().feature() >= 21);
+
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            Executor executor = tomcatExecutor(context);
+            assertFalse(executor instanceof ThreadPoolExecutor);
+            CompletableFuture<Thread> thread = new CompletableFuture<>();
+            executor.execute(() -> thread.complete(Thread.currentThread()));
+            assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread.get()));
+        });
+    }
+
+    private static Executor tomcatExecutor(AssertableWebApplicationContext context) {
+        TomcatWebServer webServer = (TomcatWebServer) context.getSourceApplicationContext(ServletWebServerApplicationContext.class).getWebServer();
+        return webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+    }
+}
@@ -0,0 +1,160 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.configuration.AppConfiguration;
+import com.alkemy.ong.configuration.MapperRegistry;
+import com.alkemy.ong.data.entities.CommentEntity;
+import com.alkemy.ong.data.entities.NewsEntity;
+import com.alkemy.ong.data.entities.RoleEntity;
+import com.alkemy.ong.data.entities.UserEntity;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.PageModel;
+import com.alkemy.ong.data.pagination.PageModelMapper;
+import com.alkemy.ong.data.repositories.CommentRepository;
+import com.alkemy.ong.domain.comments.Comment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest(properties = {
+        "spring.datasource.initialization-mode=never",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"})
+@Import({DefaultCommentGateway.class, PageModelMapper.class, MapperRegistry.class, AppConfiguration.class})
+class DefaultCommentGatewayTest {
+
+    private static final int COMMENTS = 2 * DEFAULT_PAGE_SIZE + 5;
+    private static final LocalDateTime START = LocalDateTime.of(2021, 6, 1, 12, 0);
+
+    @Autowired
+    DefaultCommentGateway commentGateway;
+
+    @Autowired
+    CommentRepository commentRepository;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @MockBean
+    ApproximateTotalCache approximateTotalCache;
+
+    private Long newsId;
+    private List<CommentEntity> newestFirst;
+
+    @BeforeEach
+    void seed() {
+        RoleEntity role = entityManager.persist(RoleEntity.builder().name("USER").build());
+        UserEntity user = entityManager.persist(UserEntity.builder()
+                .firstName("James")
+                .lastName("Potter")
+                .email("james@gmail.com")
+                .password("12345678")
+                .roleEntity(role)
+                .build());
+        NewsEntity news = entityManager.persist(news("Summer Colony"));
+        NewsEntity otherNews = entityManager.persist(news("Winter Colony"));
+        newsId = news.getNewsId();
+
+        // Comments are created three per minute so the id has to break ties, and the other news gets comments
+        // at the same instants so that a seek which ignores the news would pick them up.
+        for (int i = 0; i < COMMENTS; i++) {
+            comment(user, news, START.plusMinutes(i / 3));
+            if (i % 5 == 0) {
+                comment(user, otherNews, START.plusMinutes(i / 3));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        newestFirst = commentRepository.findAll().stream()
+                .filter(comment -> comment.getNewsEntity().getNewsId().equals(newsId))
+                .sorted(Comparator.comparing(CommentEntity::getCreatedAt).thenComparing(CommentEntity::getId).reversed())
+                .collect(toList());
+    }
+
+    @Test
+    void findByNewsOlderThanSeeksPastTheCursorBreakingTiesById() {
+        CommentEntity cursor = newestFirst.get(4);
+
+        List<CommentEntity> rows = commentRepository.findByNewsOlderThan(newsId, cursor.getCreatedAt(), cursor.getId(), seekPage());
+
+        assertEquals(ids(newestFirst.subList(5, 5 + DEFAULT_PAGE_SIZE + 1)), ids(rows));
+    }
+
+    @Test
+    void findByNewsNewerThanSeeksBackFromTheCursorBreakingTiesById() {
+        CommentEntity cursor = newestFirst.get(DEFAULT_PAGE_SIZE + 4);
+        List<CommentEntity> expected = new ArrayList<>(newestFirst.subList(3, DEFAULT_PAGE_SIZE + 4));
+        Collections.reverse(expected);
+
+        List<CommentEntity> rows = commentRepository.findByNewsNewerThan(newsId, cursor.getCreatedAt(), cursor.getId(), seekPage());
+
+        assertEquals(ids(expected), ids(rows));
+    }
+
+    @Test
+    void findByNewsIdWalksEveryCommentOnceAndComesBackWithThePreviousCursor() {
+        List<PageModel<Comment>> pages = new ArrayList<>();
+        PageModel<Comment> page = commentGateway.findByNewsId(newsId, "");
+        pages.add(page);
+        while (page.getNextCursor() != null) {
+            page = commentGateway.findByNewsId(newsId, page.getNextCursor());
+            pages.add(page);
+        }
+
+        assertEquals(ids(newestFirst), pages.stream()
+                .flatMap(walked -> walked.getBody().stream())
+                .map(Comment::getId)
+                .collect(toList()));
+        assertNull(pages.get(0).getPreviousCursor());
+        assertEquals("/news/posts/" + newsId + "/comments?cursor=" + pages.get(0).getNextCursor(), pages.get(0).getNextPage());
+
+        for (int i = pages.size() - 1; i > 0; i--) {
+            PageModel<Comment> previous = commentGateway.findByNewsId(newsId, pages.get(i).getPreviousCursor());
+            assertEquals(commentIds(pages.get(i - 1)), commentIds(previous));
+        }
+        assertNull(commentGateway.findByNewsId(newsId, pages.get(1).getPreviousCursor()).getPreviousCursor());
+    }
+
+    private NewsEntity news(String name) {
+        return NewsEntity.builder()
+                .name(name)
+                .content("Swimming pool for the little ones")
+                .image("pool.jpg")
+                .type("news")
+                .build();
+    }
+
+    private void comment(UserEntity user, NewsEntity news, LocalDateTime createdAt) {
+        CommentEntity comment = entityManager.persist(CommentEntity.builder().body("Great news").userEntity(user).newsEntity(news).build());
+        entityManager.flush();
+        entityManager.getEntityManager().createNativeQuery("UPDATE comments SET created_at = ?1 WHERE id = ?2")
+                .setParameter(1, createdAt)
+                .setParameter(2, comment.getId())
+                .executeUpdate();
+    }
+
+    private static List<Long> ids(List<CommentEntity> comments) {
+        return comments.stream().map(CommentEntity::getId).collect(toList());
+    }
+
+    private static List<Long> commentIds(PageModel<Comment> page) {
+        return page.getBody().stream().map(Comment::getId).collect(toList());
+    }
+}
@@ -0,0 +1,66 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.data.repositories.MailOutboxRepository;
+import com.alkemy.ong.domain.mail.OutboxMail;
+import com.alkemy.ong.domain.mail.OutboxStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DefaultMailOutboxGateway.class)
+class DefaultMailOutboxGatewayTest {
+
+    @Autowired
+    DefaultMailOutboxGateway mailOutboxGateway;
+
+    @Autowired
+    MailOutboxRepository mailOutboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        mailOutboxRepository.deleteAll();
+        for (String to : List.of("first@mail.com", "second@mail.com", "third@mail.com")) {
+            mailOutboxGateway.enqueue(OutboxMail.builder().to(to).subject("Subject").body("Body").build());
+        }
+        mailOutboxRepository.flush();
+    }
+
+    @Test
+    void claimsEachDueMailOnce() {
+        LocalDateTime leaseUntil = LocalDateTime.now().plusMinutes(5);
+
+        List<OutboxMail> first = mailOutboxGateway.claimDue(2, leaseUntil);
+        List<OutboxMail> second = mailOutboxGateway.claimDue(2, leaseUntil);
+
+        assertEquals(List.of("first@mail.com", "second@mail.com"), recipients(first));
+        assertEquals(List.of("third@mail.com"), recipients(second));
+        assertTrue(mailOutboxGateway.claimDue(2, leaseUntil).isEmpty());
+        assertEquals(leaseUntil.withNano(0), first.get(0).getNextAttemptAt().withNano(0));
+    }
+
+    @Test
+    void sentMailsAreNotClaimedAgainOnceTheLeaseEnds() {
+        List<OutboxMail> claimed = mailOutboxGateway.claimDue(1, LocalDateTime.now().minusSeconds(1));
+        claimed.forEach(mail -> mail.setStatus(OutboxStatus.SENT));
+        mailOutboxGateway.update(claimed);
+
+        assertEquals(List.of("second@mail.com", "third@mail.com"),
+                recipients(mailOutboxGateway.claimDue(5, LocalDateTime.now().plusMinutes(5))));
+    }
+
+    private static List<String> recipients(List<OutboxMail> mails) {
+        return mails.stream().map(OutboxMail::getTo).collect(toList());
+    }
+}
@@ -0,0 +1,108 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.data.entities.CommentEntity;
+import com.alkemy.ong.data.entities.NewsEntity;
+import com.alkemy.ong.data.entities.RoleEntity;
+import com.alkemy.ong.data.entities.UserEntity;
+import com.alkemy.ong.data.pagination.ApproximateTotalCache;
+import com.alkemy.ong.data.pagination.PageModel;
+import com.alkemy.ong.domain.news.News;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+
+import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = {
+        "spring.datasource.initialization-mode=never",
+        "spring.sql.init.mode=never",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import(DefaultNewsGateway.class)
+class DefaultNewsGatewayTest {
+
+    private static final long COMMENTS_PER_NEWS = 3;
+
+    @Autowired
+    DefaultNewsGateway newsGateway;
+
+    @Autowired
+    TestEntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    ApproximateTotalCache approximateTotalCache;
+
+    private Statistics statistics;
+    private Long firstNewsId;
+
+    @BeforeEach
+    void seed() {
+        RoleEntity role = entityManager.persist(RoleEntity.builder().name("USER").build());
+        UserEntity user = entityManager.persist(UserEntity.builder()
+                .firstName("James")
+                .lastName("Potter")
+                .email("james@gmail.com")
+                .password("12345678")
+                .roleEntity(role)
+                .build());
+        for (int i = 1; i <= DEFAULT_PAGE_SIZE + 1; i++) {
+            NewsEntity news = entityManager.persist(NewsEntity.builder()
+                    .name("Summer Colony " + i)
+                    .content("Swimming pool for the little ones")
+                    .image("pool.jpg")
+                    .type("news")
+                    .build());
+            if (firstNewsId == null) {
+                firstNewsId = news.getNewsId();
+            }
+            for (int j = 0; j < COMMENTS_PER_NEWS; j++) {
+                entityManager.persist(CommentEntity.builder().body("Great news").userEntity(user).newsEntity(news).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAllRunsOneQueryForNewsAndOneForCommentCounts() {
+        PageModel<News> page = newsGateway.findAll(0);
+
+        assertEquals(DEFAULT_PAGE_SIZE, page.getBody().size());
+        page.getBody().forEach(news -> assertEquals(COMMENTS_PER_NEWS, news.getCommentCount()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAllByCursorRunsOneQueryForNewsAndOneForCommentCounts() {
+        PageModel<News> page = newsGateway.findAllByCursor("");
+
+        assertEquals(DEFAULT_PAGE_SIZE, page.getBody().size());
+        page.getBody().forEach(news -> assertEquals(COMMENTS_PER_NEWS, news.getCommentCount()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findByIdLoadsCommentsInTheSameQuery() {
+        News news = newsGateway.findById(firstNewsId);
+
+        assertEquals(COMMENTS_PER_NEWS, news.getComments().size());
+        news.getComments().forEach(comment -> assertEquals(firstNewsId, comment.getNewsId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
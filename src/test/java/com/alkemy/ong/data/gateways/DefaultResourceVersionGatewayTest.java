@@ -0,0 +1,55 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.domain.versions.VersionedResource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(DefaultResourceVersionGateway.class)
+class DefaultResourceVersionGatewayTest {
+
+    @Autowired
+    DefaultResourceVersionGateway resourceVersionGateway;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Test
+    void writesMadeOutsideTheGatewaysChangeTheVersion() {
+        String before = fingerprint(VersionedResource.TESTIMONIALS);
+        assertEquals(before, fingerprint(VersionedResource.TESTIMONIALS));
+
+        jdbcTemplate.update("INSERT INTO testimonials (name, content, updated_at) VALUES ('Imported', 'Content', NOW())");
+        String inserted = fingerprint(VersionedResource.TESTIMONIALS);
+        assertNotEquals(before, inserted);
+
+        jdbcTemplate.update("UPDATE testimonials SET deleted = 1 WHERE name = 'Imported'");
+        assertNotEquals(inserted, fingerprint(VersionedResource.TESTIMONIALS));
+    }
+
+    @Test
+    void updateWithinTheSameSecondAsTheNewestRowChangesTheVersion() {
+        jdbcTemplate.update("INSERT INTO testimonials (name, content, updated_at) VALUES ('Newest', 'Content', NOW())");
+        jdbcTemplate.update("INSERT INTO testimonials (name, content, updated_at) VALUES ('Older', 'Content', NOW() - INTERVAL 1 DAY)");
+        String before = fingerprint(VersionedResource.TESTIMONIALS);
+
+        Timestamp newest = jdbcTemplate.queryForObject("SELECT MAX(updated_at) FROM testimonials", Timestamp.class);
+        jdbcTemplate.update("UPDATE testimonials SET updated_at = ? WHERE name = 'Older'", newest);
+
+        assertNotEquals(before, fingerprint(VersionedResource.TESTIMONIALS));
+    }
+
+    private String fingerprint(VersionedResource resource) {
+        return resourceVersionGateway.findVersion(resource).getFingerprint();
+    }
+}
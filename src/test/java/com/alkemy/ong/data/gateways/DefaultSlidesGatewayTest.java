@@ -0,0 +1,70 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.data.repositories.SlidesRepository;
+import com.alkemy.ong.domain.cloud.CloudGateway;
+import com.alkemy.ong.domain.exceptions.WebRequestException;
+import com.alkemy.ong.domain.organization.Organization;
+import com.alkemy.ong.domain.slides.Slides;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DefaultSlidesGatewayTest {
+
+    private static final String IMAGE_URL = "https://bucket.s3.amazonaws.com/slide.png";
+
+    private final SlidesRepository slidesRepository = mock(SlidesRepository.class);
+    private final DefaultOrganizationGateway organizationGateway = mock(DefaultOrganizationGateway.class);
+    private final CloudGateway cloudGateway = mock(CloudGateway.class);
+    private final DefaultSlidesGateway slidesGateway = new DefaultSlidesGateway(slidesRepository, organizationGateway, cloudGateway,
+            mock(ApplicationEventPublisher.class));
+
+    @BeforeEach
+    void setUp() {
+        when(organizationGateway.findById(1L)).thenReturn(Organization.builder().idOrganization(1L).build());
+        when(cloudGateway.upload(any(), anyLong(), anyString(), anyString())).thenReturn(IMAGE_URL);
+    }
+
+    @Test
+    void orderTakenMeanwhileIsRejectedAndTheUploadedImageDeleted() {
+        when(slidesRepository.saveAndFlush(any())).thenThrow(violation("uk_slides_organization_order"));
+
+        assertThrows(WebRequestException.class, () -> slidesGateway.create(slide()));
+        verify(cloudGateway).deleteFileFromS3Bucket(IMAGE_URL);
+    }
+
+    @Test
+    void otherViolationsAreNotReportedAsATakenOrder() {
+        when(slidesRepository.saveAndFlush(any())).thenThrow(violation("slides_ibfk_1"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> slidesGateway.create(slide()));
+        verify(cloudGateway).deleteFileFromS3Bucket(IMAGE_URL);
+    }
+
+    private static DataIntegrityViolationException violation(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException(), constraintName));
+    }
+
+    private static Slides slide() {
+        return Slides.builder()
+                .imageUrl("data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}))
+                .text("Slide")
+                .order(5)
+                .idOrganization(1L)
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.configuration.DependencyFailurePredicate;
+import com.alkemy.ong.configuration.DependencyGuards;
+import com.alkemy.ong.domain.exceptions.SendgridException;
+import com.alkemy.ong.domain.exceptions.ServiceUnavailableException;
+import com.alkemy.ong.domain.mail.MailOutboxGateway;
+import com.alkemy.ong.domain.mail.MailRequest;
+import com.alkemy.ong.domain.mail.MailTemplateEngine;
+import com.alkemy.ong.domain.mail.OutboxMail;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadConfig;
+import io.github.resilience4j.bulkhead.ThreadPoolBulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResilientMailGatewayTest {
+
+    private static final MailRequest MAIL = MailRequest.builder().to("user@mail.com").subject("Hello").body("Body").build();
+
+    private final FaultySendGrid sendGrid = new FaultySendGrid();
+    private final List<OutboxMail> outbox = new CopyOnWriteArrayList<>();
+    private final ThreadPoolBulkheadRegistry bulkheads = ThreadPoolBulkheadRegistry.of(ThreadPoolBulkheadConfig.custom()
+            .coreThreadPoolSize(1)
+            .maxThreadPoolSize(1)
+            .queueCapacity(1)
+            .build());
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .slidingWindowSize(4)
+            .minimumNumberOfCalls(4)
+            .waitDurationInOpenState(Duration.ofMinutes(1))
+            .recordException(new DependencyFailurePredicate())
+            .ignoreExceptions(BulkheadFullException.class)
+            .build());
+    private DependencyGuards guards;
+
+    @AfterEach
+    void tearDown() {
+        sendGrid.release();
+        guards.shutdown();
+    }
+
+    @Test
+    void failedMailIsRethrownInsteadOfQueued() {
+        ResilientMailGateway mailGateway = mailGateway(Duration.ofSeconds(5), false);
+        sendGrid.failing = true;
+
+        assertThrows(SendgridException.class, () -> mailGateway.sendMailWithTemplate(MAIL.getTo(), MAIL.getSubject(), MAIL.getBody()));
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void slowSendGridTimesOutWithoutQueueingTheMail() {
+        ResilientMailGateway mailGateway = mailGateway(Duration.ofMillis(200), false);
+        sendGrid.hanging = true;
+
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> mailGateway.sendMail(MAIL));
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(2)) < 0);
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void openCircuitQueuesTheMailWithoutCallingSendGrid() {
+        ResilientMailGateway mailGateway = mailGateway(Duration.ofSeconds(5), false);
+        sendGrid.failing = true;
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(SendgridException.class, () -> mailGateway.sendMail(MAIL));
+        }
+        mailGateway.sendMail(MAIL);
+
+        assertEquals(4, sendGrid.calls.get());
+        assertEquals(1, outbox.size());
+        assertEquals(MAIL.getTo(), outbox.get(0).getTo());
+    }
+
+    @Test
+    void rejectedMailIsRethrownAndDoesNotOpenTheCircuit() {
+        ResilientMailGateway mailGateway = mailGateway(Duration.ofSeconds(5), false);
+        sendGrid.status = 400;
+
+        for (int i = 0; i < 5; i++) {
+            SendgridException e = assertThrows(SendgridException.class, () -> mailGateway.sendMail(MAIL));
+            assertEquals(400, e.getStatusCode());
+        }
+
+        assertEquals(5, sendGrid.calls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.circuitBreaker(ResilientMailGateway.DEPENDENCY).getState());
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void failedBatchIsLeftToTheDispatcher() {
+        ResilientMailGateway mailGateway = mailGateway(Duration.ofSeconds(5), false);
+        sendGrid.failing = true;
+
+        assertThrows(SendgridException.class, () -> mailGateway.sendBatchWithTemplate(List.of(MAIL)));
+        assertTrue(outbox.isEmpty());
+    }
+
+    @Test
+    void fullBulkheadRejectsWithoutWaiting() {
+        ResilientMailGateway mailGateway = mailGateway(Duration.ofSeconds(5), false);
+        sendGrid.hanging = true;
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> mailGateway.sendBatchWithTemplate(List.of(MAIL)));
+        await(() -> sendGrid.calls.get() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> mailGateway.sendBatchWithTemplate(List.of(MAIL)));
+        await(() -> bulkheads.bulkhead(ResilientMailGateway.DEPENDENCY).getMetrics().getQueueDepth() == 1);
+
+        assertThrows(ServiceUnavailableException.class, () -> mailGateway.sendBatchWithTemplate(List.of(MAIL)));
+
+        sendGrid.release();
+        running.join();
+        queued.join();
+        assertEquals(2, sendGrid.calls.get());
+    }
+
+    @Test
+    void withVirtualThreadsMailIsSentOnTheCallingThreadAndQueuedWhenTheBulkheadIsFull() {
+        ResilientMailGateway mailGateway = mailGateway(Duration.ofSeconds(5), true);
+        sendGrid.hanging = true;
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> {
+            sendGrid.expectedThread = Thread.currentThread();
+            return mailGateway.sendMail(MAIL);
+        });
+        await(() -> sendGrid.calls.get() == 1);
+
+        mailGateway.sendMail(MAIL);
+
+        assertEquals(1, outbox.size());
+        sendGrid.release();
+        running.join();
+        assertEquals(1, sendGrid.calls.get());
+        assertTrue(sendGrid.calledOnExpectedThread);
+    }
+
+    private ResilientMailGateway mailGateway(Duration timeout, boolean virtualThreads) {
+        guards = new DependencyGuards(
+                circuitBreakers,
+                BulkheadRegistry.of(BulkheadConfig.custom().maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build()),
+                bulkheads,
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(timeout).build()),
+                virtualThreads);
+        return new ResilientMailGateway(new DefaultMailGateway(sendGrid, new MailTemplateEngine()), new InMemoryOutbox(), guards);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the condition");
+            Thread.onSpinWait();
+        }
+    }
+
+    private class InMemoryOutbox implements MailOutboxGateway {
+
+        @Override
+        public void enqueue(OutboxMail mail) {
+            outbox.add(mail);
+        }
+
+        @Override
+        public List<OutboxMail> claimDue(int batchSize, LocalDateTime leaseUntil) {
+            return List.of();
+        }
+
+        @Override
+        public void update(List<OutboxMail> mails) {
+        }
+    }
+
+    private static class FaultySendGrid extends SendGrid {
+
+        private final AtomicInteger calls = new AtomicInteger();
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean failing;
+        private volatile boolean hanging;
+        private volatile int status = 202;
+        private volatile Thread expectedThread;
+        private volatile boolean calledOnExpectedThread;
+
+        FaultySendGrid() {
+            super("test-key");
+        }
+
+        @Override
+        public Response api(Request request) throws IOException {
+            calls.incrementAndGet();
+            calledOnExpectedThread = Thread.currentThread() == expectedThread;
+            if (failing) {
+                throw new IOException("Injected SendGrid failure");
+            }
+            if (hanging) {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while hanging");
+                }
+            }
+            return new Response(status, "", Map.of());
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.alkemy.ong.data.gateways;
+
+import com.alkemy.ong.domain.mail.MailBatchGateway;
+import com.alkemy.ong.domain.mail.MailGateway;
+import com.alkemy.ong.domain.mail.MailRequest;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Primary
+@Component
+public class StubMailGateway implements MailGateway, MailBatchGateway {
+
+    private final List<MailRequest> sentMails = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String sendMail(MailRequest mailRequest) {
+        sentMails.add(mailRequest);
+        return "";
+    }
+
+    @Override
+    public String sendMailWithTemplate(String to, String subject, String body) {
+        return sendMail(MailRequest.builder().to(to).subject(subject).body(body).build());
+    }
+
+    @Override
+    public String sendBatchWithTemplate(List<MailRequest> mailRequests) {
+        sentMails.addAll(mailRequests);
+        return "";
+    }
+
+    public List<MailRequest> getSentMails() {
+        return sentMails;
+    }
+
+    public void clear() {
+        sentMails.clear();
+    }
+}
@@ -0,0 +1,101 @@
+package com.alkemy.ong.domain.mail;
+
+import com.alkemy.ong.domain.exceptions.SendgridException;
+import com.alkemy.ong.domain.exceptions.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MailDispatcherTest {
+
+    private static final String BAD_ADDRESS = "not-an-address";
+
+    private final RejectingMailGateway mailGateway = new RejectingMailGateway();
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final MailDispatcher dispatcher = new MailDispatcher(mailGateway, outbox, 10, 2, 30, 300);
+
+    @Test
+    void rejectedBatchOnlyCountsAnAttemptForTheRefusedMail() {
+        outbox.add("first@mail.com");
+        outbox.add(BAD_ADDRESS);
+        outbox.add("third@mail.com");
+
+        dispatcher.dispatch();
+
+        assertEquals(OutboxStatus.SENT, outbox.mail("first@mail.com").getStatus());
+        assertEquals(OutboxStatus.SENT, outbox.mail("third@mail.com").getStatus());
+        assertEquals(OutboxStatus.PENDING, outbox.mail(BAD_ADDRESS).getStatus());
+        assertEquals(1, outbox.mail(BAD_ADDRESS).getAttempts());
+        assertEquals(0, outbox.mail("first@mail.com").getAttempts());
+    }
+
+    @Test
+    void claimedMailsAreLeasedBeforeSending() {
+        outbox.add("first@mail.com");
+        mailGateway.unavailable = true;
+
+        dispatcher.dispatch();
+
+        assertTrue(outbox.leaseUntil.isAfter(LocalDateTime.now().plusSeconds(290)));
+        assertEquals(0, outbox.mail("first@mail.com").getAttempts());
+        assertEquals(OutboxStatus.PENDING, outbox.mail("first@mail.com").getStatus());
+    }
+
+    private static class RejectingMailGateway implements MailBatchGateway {
+
+        private boolean unavailable;
+
+        @Override
+        public String sendBatchWithTemplate(List<MailRequest> mailRequests) {
+            if (unavailable) {
+                throw new ServiceUnavailableException("The sendgrid service is not available right now");
+            }
+            if (mailRequests.stream().anyMatch(mail -> BAD_ADDRESS.equals(mail.getTo()))) {
+                throw new SendgridException("SendGrid rejected the batch with status 400", 400);
+            }
+            return "";
+        }
+    }
+
+    private static class InMemoryOutbox implements MailOutboxGateway {
+
+        private final List<OutboxMail> mails = new ArrayList<>();
+        private LocalDateTime leaseUntil;
+
+        void add(String to) {
+            mails.add(OutboxMail.builder()
+                    .id((long) mails.size() + 1)
+                    .to(to)
+                    .subject("Subject")
+                    .body("Body")
+                    .status(OutboxStatus.PENDING)
+                    .attempts(0)
+                    .nextAttemptAt(LocalDateTime.now())
+                    .build());
+        }
+
+        OutboxMail mail(String to) {
+            return mails.stream().filter(mail -> mail.getTo().equals(to)).findFirst().orElseThrow();
+        }
+
+        @Override
+        public void enqueue(OutboxMail mail) {
+            mails.add(mail);
+        }
+
+        @Override
+        public List<OutboxMail> claimDue(int batchSize, LocalDateTime leaseUntil) {
+            this.leaseUntil = leaseUntil;
+            return mails.stream().filter(mail -> mail.getStatus() == OutboxStatus.PENDING).limit(batchSize).toList();
+        }
+
+        @Override
+        public void update(List<OutboxMail> updated) {
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.alkemy.ong.domain.mail;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MailTemplateEngineTest {
+
+    private final MailTemplateEngine engine = new MailTemplateEngine();
+
+    @Test
+    void valuesAreEscaped() {
+        String html = engine.render(MailTemplateEngine.CONTACT, Map.of("message", "<a href=\"https://evil.test\">Tom & 'Jerry'</a>"));
+
+        assertEquals("<br><strong>Message:</strong><br>&lt;a href=&quot;https://evil.test&quot;&gt;Tom &amp; &#39;Jerry&#39;&lt;/a&gt;", html.trim());
+    }
+
+    @Test
+    void rawPlaceholderKeepsTrustedHtml() {
+        String html = render("<p>{{{body}}}</p><p>{{ name }}</p>", Map.of("body", "<b>Hi</b>", "name", "<b>Ann</b>"));
+
+        assertEquals("<p><b>Hi</b></p><p>&lt;b&gt;Ann&lt;/b&gt;</p>", html);
+    }
+
+    @Test
+    void layoutWrapsTheRenderedBodyWithoutEscapingIt() {
+        String html = engine.renderInLayout(MailTemplateEngine.REGISTRATION, Map.of("firstName", "<script>x</script>", "email", "ann@mail.com"));
+
+        assertTrue(html.contains("<br>Welcome to Somas Mas ONG"));
+        assertTrue(html.contains("&lt;script&gt;x&lt;/script&gt;, your Username is:"));
+        assertFalse(html.contains("<script>"));
+    }
+
+    private static String render(String source, Map<String, String> values) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        MailTemplateEngine.CompiledTemplate.compile(source).writeTo(buffer, values);
+        return buffer.toString(UTF_8);
+    }
+}
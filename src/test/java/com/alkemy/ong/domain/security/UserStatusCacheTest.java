@@ -0,0 +1,38 @@
+package com.alkemy.ong.domain.security;
+
+import com.alkemy.ong.domain.users.UserGateway;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserStatusCacheTest {
+
+    private final UserGateway userGateway = mock(UserGateway.class);
+
+    @Test
+    void deletedUserIsRejectedOnceTheStatusExpires() throws InterruptedException {
+        UserStatusCache cache = new UserStatusCache(userGateway, 1, 100);
+        when(userGateway.findRoleIdByEmail("user@mail.com")).thenReturn(Optional.of(2L));
+        assertTrue(cache.isActive("user@mail.com", "ROLE_USER"));
+
+        when(userGateway.findRoleIdByEmail("user@mail.com")).thenReturn(Optional.empty());
+        assertTrue(cache.isActive("user@mail.com", "ROLE_USER"));
+        Thread.sleep(1_500);
+
+        assertFalse(cache.isActive("user@mail.com", "ROLE_USER"));
+    }
+
+    @Test
+    void demotedUserLosesTheRoleInTheToken() {
+        UserStatusCache cache = new UserStatusCache(userGateway, 30, 100);
+        when(userGateway.findRoleIdByEmail("admin@mail.com")).thenReturn(Optional.of(2L));
+
+        assertFalse(cache.isActive("admin@mail.com", "ROLE_ADMIN"));
+        assertTrue(cache.isActive("admin@mail.com", "ROLE_USER"));
+    }
+}
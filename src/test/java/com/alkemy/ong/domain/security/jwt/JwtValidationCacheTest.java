@@ -0,0 +1,73 @@
+package com.alkemy.ong.domain.security.jwt;
+
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SignatureException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtValidationCacheTest {
+
+    private static final String SECRET_KEY = "secretkey";
+
+    private final JwtValidationCache cache = new JwtValidationCache(new JwtUtil(), 100);
+
+    @Test
+    void repeatedTokenIsServedFromTheCache() {
+        String token = token("user@mail.com", new Date(System.currentTimeMillis() + 60_000));
+
+        VerifiedToken first = cache.verify(token);
+        VerifiedToken second = cache.verify(token);
+
+        assertSame(first, second);
+        assertEquals("user@mail.com", second.getUsername());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    void cachedTokenIsRejectedOnceItExpires() throws InterruptedException {
+        String token = token("user@mail.com", new Date(System.currentTimeMillis() + 1_000));
+        cache.verify(token);
+
+        Thread.sleep(2_000);
+
+        assertThrows(ExpiredJwtException.class, () -> cache.verify(token));
+    }
+
+    @Test
+    void tamperedSignatureIsRejectedAfterTheOriginalWasCached() {
+        String token = token("user@mail.com", new Date(System.currentTimeMillis() + 60_000));
+        cache.verify(token);
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A') + token.substring(signatureStart + 1);
+
+        assertThrows(SignatureException.class, () -> cache.verify(tampered));
+    }
+
+    @Test
+    void tamperedClaimsWithTheOriginalSignatureAreRejected() {
+        String token = token("user@mail.com", new Date(System.currentTimeMillis() + 60_000));
+        String forged = token("admin@mail.com", new Date(System.currentTimeMillis() + 60_000));
+        cache.verify(token);
+        String spliced = forged.substring(0, forged.lastIndexOf('.')) + token.substring(token.lastIndexOf('.'));
+
+        assertThrows(SignatureException.class, () -> cache.verify(spliced));
+    }
+
+    private static String token(String username, Date expiration) {
+        return Jwts.builder()
+                .setSubject(username)
+                .setIssuedAt(new Date())
+                .setExpiration(expiration)
+                .signWith(SignatureAlgorithm.HS256, SECRET_KEY)
+                .compact();
+    }
+}
@@ -0,0 +1,61 @@
+package com.alkemy.ong.domain.versions;
+
+import com.alkemy.ong.domain.organization.OrganizationChangedEvent;
+import com.alkemy.ong.domain.search.SearchDocumentChangedEvent;
+import com.alkemy.ong.domain.search.SearchDocumentType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ResourceVersionServiceTest {
+
+    private final ResourceVersionGateway resourceVersionGateway = mock(ResourceVersionGateway.class);
+    private final ResourceVersionService service = new ResourceVersionService(resourceVersionGateway, 30);
+
+    @BeforeEach
+    void setUp() {
+        when(resourceVersionGateway.findVersion(any())).thenReturn(ResourceVersion.builder().fingerprint("1:100:100").build());
+    }
+
+    @Test
+    void versionIsReadOnceUntilItsResourceChanges() {
+        service.findVersion(VersionedResource.NEWS);
+        service.findVersion(VersionedResource.MEMBERS);
+
+        service.onResourceChanged(new ResourceChangedEvent(VersionedResource.MEMBERS));
+        service.findVersion(VersionedResource.NEWS);
+        service.findVersion(VersionedResource.MEMBERS);
+
+        verify(resourceVersionGateway, times(1)).findVersion(VersionedResource.NEWS);
+        verify(resourceVersionGateway, times(2)).findVersion(VersionedResource.MEMBERS);
+    }
+
+    @Test
+    void organizationAndSearchEventsDropTheirResources() {
+        for (VersionedResource resource : VersionedResource.values()) {
+            service.findVersion(resource);
+        }
+
+        service.onOrganizationChanged(new OrganizationChangedEvent(1L));
+        service.onSearchDocumentChanged(SearchDocumentChangedEvent.deleted(SearchDocumentType.TESTIMONIAL, 1L));
+        service.onSearchDocumentChanged(SearchDocumentChangedEvent.deleted(SearchDocumentType.ACTIVITY, 1L));
+        for (VersionedResource resource : VersionedResource.values()) {
+            service.findVersion(resource);
+        }
+
+        verify(resourceVersionGateway, times(2)).findVersion(VersionedResource.ORGANIZATIONS);
+        verify(resourceVersionGateway, times(2)).findVersion(VersionedResource.TESTIMONIALS);
+        verify(resourceVersionGateway, times(1)).findVersion(VersionedResource.NEWS);
+    }
+
+    @Test
+    void fingerprintComesFromTheGateway() {
+        assertEquals("1:100:100", service.findVersion(VersionedResource.SLIDES).getFingerprint());
+    }
+}
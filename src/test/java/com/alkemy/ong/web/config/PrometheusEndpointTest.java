@@ -0,0 +1,58 @@
+package com.alkemy.ong.web.config;
+
+import com.alkemy.ong.data.repositories.TestimonialRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class PrometheusEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    TestimonialRepository testimonialRepository;
+
+    private final String URL = "/actuator/prometheus";
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void prometheusExposesGatewayRequestAndCacheMetrics() throws Exception {
+        mockMvc.perform(delete("/testimonials/99"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("ong_gateway_seconds_count{"),
+                        containsString("gateway=\"DefaultTestimonialGateway\""),
+                        containsString("exception=\"ResourceNotFoundException\""),
+                        containsString("ong_http_db_queries_count{"),
+                        containsString("http_server_requests_seconds_bucket{"),
+                        containsString("cache=\"jwt.validation\""),
+                        containsString("resilience4j_circuitbreaker_state{"),
+                        containsString("name=\"sendgrid\""))));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void prometheusIsForbiddenForUsers() throws Exception {
+        mockMvc.perform(get(URL))
+                .andExpect(status().isForbidden());
+    }
+}
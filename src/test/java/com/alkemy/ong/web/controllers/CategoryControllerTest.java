@@ -16,8 +16,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -142,7 +142,7 @@ public class CategoryControllerTest {
 	void listCategoriesPageSuccessTest() throws Exception {
 		PageModel<CategoryEntity> pageModelCategories = buildPageModel();
 		
-		when(categoryRepository.findAll(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new PageImpl<>(pageModelCategories.getBody()));
+		when(categoryRepository.findAllBy(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new SliceImpl<>(pageModelCategories.getBody()));
 		
 		mockMvc.perform(get("/categories").param("page", "0").contentType(APPLICATION_JSON)
 				.content(objectMapper.writeValueAsString(pageModelCategories)))
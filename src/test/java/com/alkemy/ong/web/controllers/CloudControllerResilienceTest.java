@@ -0,0 +1,156 @@
+package com.alkemy.ong.web.controllers;
+
+import com.alkemy.ong.cloud.FaultyAmazonS3;
+import com.alkemy.ong.cloud.ResilientCloudGateway;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "resilience4j.bulkhead.instances.s3.max-concurrent-calls=1",
+        "resilience4j.circuitbreaker.instances.s3.sliding-window-size=4",
+        "resilience4j.circuitbreaker.instances.s3.minimum-number-of-calls=4"})
+@AutoConfigureMockMvc
+class CloudControllerResilienceTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    FaultyAmazonS3 amazonS3;
+
+    @Autowired
+    CircuitBreakerRegistry circuitBreakers;
+
+    @Autowired
+    ResilientCloudGateway cloudGateway;
+
+    @Value("${amazonProperties.endpointUrl}")
+    String endpointUrl;
+
+    @Value("${amazonProperties.bucketName}")
+    String bucketName;
+
+    @TestConfiguration
+    static class FaultyS3StandIn {
+        @Bean
+        @Primary
+        FaultyAmazonS3 faultyAmazonS3() {
+            return new FaultyAmazonS3();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        amazonS3.reset();
+        circuitBreakers.circuitBreaker(ResilientCloudGateway.DEPENDENCY).reset();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void uploadToSlowS3Completes() throws Exception {
+        amazonS3.setLatency(Duration.ofMillis(500));
+
+        upload().andExpect(status().isOk());
+
+        assertEquals(1, amazonS3.getPutObjectCalls());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void fullBulkheadRejectsWithoutWaiting() throws Exception {
+        amazonS3.setLatency(Duration.ofSeconds(2));
+        byte[] notes = "slow notes".getBytes();
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() ->
+                cloudGateway.upload(new ByteArrayInputStream(notes), notes.length, "text/plain", "slow-notes.txt"));
+        await(() -> amazonS3.getPutObjectCalls() == 1);
+
+        long start = System.nanoTime();
+        upload().andExpect(status().isServiceUnavailable());
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+        running.join();
+        assertEquals(1, amazonS3.getPutObjectCalls());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void deniedUploadsDoNotOpenTheCircuit() throws Exception {
+        amazonS3.setDenying(true);
+        for (int i = 0; i < 5; i++) {
+            upload().andExpect(status().isServiceUnavailable());
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakers.circuitBreaker(ResilientCloudGateway.DEPENDENCY).getState());
+        assertEquals(5, amazonS3.getPutObjectCalls());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void failingS3OpensTheCircuit() throws Exception {
+        amazonS3.setFailing(true);
+        for (int i = 0; i < 4; i++) {
+            upload().andExpect(status().isServiceUnavailable());
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakers.circuitBreaker(ResilientCloudGateway.DEPENDENCY).getState());
+
+        upload().andExpect(status().isServiceUnavailable());
+
+        assertEquals(4, amazonS3.getPutObjectCalls());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void uploadSucceedsWhileS3IsHealthy() throws Exception {
+        upload().andExpect(status().isOk());
+
+        assertEquals(1, amazonS3.getPutObjectCalls());
+    }
+
+    @Test
+    void srcsetIsServedWhileTheCircuitIsOpen() {
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(ResilientCloudGateway.DEPENDENCY);
+        circuitBreaker.transitionToOpenState();
+
+        Map<String, String> srcset = cloudGateway.srcset(endpointUrl + "/" + bucketName + "/old.png");
+
+        assertEquals(endpointUrl + "/" + bucketName + "/old-large.jpg", srcset.get("1280w"));
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfBufferedCalls());
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Timed out waiting for the condition");
+            Thread.onSpinWait();
+        }
+    }
+
+    private ResultActions upload() throws Exception {
+        return mockMvc.perform(multipart("/storage/uploadFile")
+                .file(new MockMultipartFile("file", "notes.txt", "text/plain", "some notes".getBytes())));
+    }
+}
@@ -0,0 +1,153 @@
+package com.alkemy.ong.web.controllers;
+
+import com.alkemy.ong.cloud.InMemoryAmazonS3;
+import com.alkemy.ong.domain.cloud.CloudGateway;
+import com.alkemy.ong.domain.cloud.ImageVariant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {"amazonProperties.multipartThreshold=1024", "amazonProperties.partSize=512"})
+@AutoConfigureMockMvc
+class CloudControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    InMemoryAmazonS3 amazonS3;
+
+    @Autowired
+    CloudGateway cloudGateway;
+
+    @Value("${amazonProperties.endpointUrl}")
+    String endpointUrl;
+
+    @Value("${amazonProperties.bucketName}")
+    String bucketName;
+
+    @TestConfiguration
+    static class S3StandIn {
+        @Bean
+        @Primary
+        InMemoryAmazonS3 inMemoryAmazonS3() {
+            return new InMemoryAmazonS3();
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void uploadFileSuccess() throws Exception {
+        byte[] content = buildContent(100);
+
+        String url = mockMvc.perform(multipart("/storage/uploadFile")
+                        .file(new MockMultipartFile("file", "small photo.png", "image/png", content)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertTrue(url.endsWith("-small_photo.png"));
+        assertArrayEquals(content, amazonS3.getObjectBytes(url.substring(url.lastIndexOf("/") + 1)));
+        assertFalse(new File("small photo.png").exists());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void uploadLargeFileInParts() throws Exception {
+        byte[] content = buildContent(3000);
+        int completedUploads = amazonS3.getCompletedMultipartUploads();
+
+        String url = mockMvc.perform(multipart("/storage/uploadFile")
+                        .file(new MockMultipartFile("file", "large.png", "image/png", content)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertArrayEquals(content, amazonS3.getObjectBytes(url.substring(url.lastIndexOf("/") + 1)));
+        assertEquals(completedUploads + 1, amazonS3.getCompletedMultipartUploads());
+        assertEquals(0, amazonS3.getPendingMultipartUploads());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void uploadImageGeneratesDerivatives() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(2000, 1000, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        String url = mockMvc.perform(multipart("/storage/uploadFile")
+                        .file(new MockMultipartFile("file", "banner.png", "image/png", png.toByteArray())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String key = url.substring(url.lastIndexOf("/") + 1);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            byte[] derivative = awaitObject(variant.keyFor(key));
+            assertNotNull(derivative);
+            assertEquals(variant.getWidth(), ImageIO.read(new ByteArrayInputStream(derivative)).getWidth());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void derivativesAreNotUpscaledAndAreListedOnceStored() throws Exception {
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(300, 150, BufferedImage.TYPE_INT_RGB), "png", png);
+
+        String url = mockMvc.perform(multipart("/storage/uploadFile")
+                        .file(new MockMultipartFile("file", "icon.png", "image/png", png.toByteArray())))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String key = url.substring(url.lastIndexOf("/") + 1);
+
+        Map<String, String> srcset = cloudGateway.srcset(url);
+        for (int attempt = 0; attempt < 100 && srcset.size() < ImageVariant.values().length; attempt++) {
+            Thread.sleep(50);
+            srcset = cloudGateway.srcset(url);
+        }
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            assertEquals(Math.min(variant.getWidth(), 300), ImageIO.read(new ByteArrayInputStream(amazonS3.getObjectBytes(variant.keyFor(key)))).getWidth());
+            assertTrue(srcset.get(variant.descriptor()).endsWith(variant.keyFor(key)));
+        }
+    }
+
+    @Test
+    void srcsetOfImagesUploadedElsewhereFollowsTheNamingConventionWithoutAskingS3() {
+        Map<String, String> srcset = cloudGateway.srcset(endpointUrl + "/" + bucketName + "/old.png");
+
+        assertEquals(List.of("160w", "640w", "1280w"), List.copyOf(srcset.keySet()));
+        assertEquals(endpointUrl + "/" + bucketName + "/old-large.jpg", srcset.get("1280w"));
+    }
+
+    private byte[] awaitObject(String key) throws InterruptedException {
+        for (int attempt = 0; attempt < 100 && amazonS3.getObjectBytes(key) == null; attempt++) {
+            Thread.sleep(50);
+        }
+        return amazonS3.getObjectBytes(key);
+    }
+
+    private byte[] buildContent(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+}
@@ -1,10 +1,17 @@
 package com.alkemy.ong.web.controllers;
 
 import com.alkemy.ong.data.entities.ContactEntity;
+import com.alkemy.ong.data.entities.MailOutboxEntity;
 import com.alkemy.ong.data.repositories.ContactRepository;
+import com.alkemy.ong.data.repositories.MailOutboxRepository;
+import com.alkemy.ong.domain.mail.OutboxStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
+
 import static com.alkemy.ong.web.controllers.ContactController.ContactDTO;
 
 import org.junit.jupiter.api.Test;
@@ -12,14 +19,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.NEWEST_FIRST;
+import static com.alkemy.ong.data.utils.PaginationUtils.encodeCursor;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
 import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.*;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -34,6 +51,9 @@ class ContactControllerTest {
     @MockBean
     ContactRepository contactRepository;
 
+    @MockBean
+    MailOutboxRepository mailOutboxRepository;
+
     @Autowired
     ObjectMapper objectMapper;
 
@@ -45,21 +65,63 @@ class ContactControllerTest {
         List<ContactEntity> contacts = asList(
                 createContact(1L, "Juan Perez", "342525156", "juanperez@gmail.com", "MessageExample" ),
                 createContact(2L, "Ignacio Rodriguez", "11334565", "ignacior@gmail.com", "MessageExample2" ));
-        when(contactRepository.findAll()).thenReturn(contacts);
+        when(contactRepository.findAllBy(PageRequest.of(0, DEFAULT_PAGE_SIZE, NEWEST_FIRST))).thenReturn(new SliceImpl<>(contacts));
 
         mockMvc.perform(get(URL).contentType(APPLICATION_JSON))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].name").value("Juan Perez"))
-                .andExpect(jsonPath("$[0].phone").value("342525156"))
-                .andExpect(jsonPath("$[0].email").value("juanperez@gmail.com"))
-                .andExpect(jsonPath("$[0].message").value("MessageExample"))
-                .andExpect(jsonPath("$[1].id").value(2L))
-                .andExpect(jsonPath("$[1].name").value("Ignacio Rodriguez"))
-                .andExpect(jsonPath("$[1].phone").value("11334565"))
-                .andExpect(jsonPath("$[1].email").value("ignacior@gmail.com"))
-                .andExpect(jsonPath("$[1].message").value("MessageExample2"));
+                .andExpect(jsonPath("$.body", hasSize(2)))
+                .andExpect(jsonPath("$.body[0].id").value(1L))
+                .andExpect(jsonPath("$.body[0].name").value("Juan Perez"))
+                .andExpect(jsonPath("$.body[0].phone").value("342525156"))
+                .andExpect(jsonPath("$.body[0].email").value("juanperez@gmail.com"))
+                .andExpect(jsonPath("$.body[0].message").value("MessageExample"))
+                .andExpect(jsonPath("$.body[1].id").value(2L))
+                .andExpect(jsonPath("$.body[1].name").value("Ignacio Rodriguez"))
+                .andExpect(jsonPath("$.body[1].phone").value("11334565"))
+                .andExpect(jsonPath("$.body[1].email").value("ignacior@gmail.com"))
+                .andExpect(jsonPath("$.body[1].message").value("MessageExample2"))
+                .andExpect(jsonPath("$.nextPage", is("This is the last page")))
+                .andExpect(jsonPath("$.previuosPage", is("This is the first page")));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllContactsByCursor() throws Exception {
+        LocalDateTime newest = LocalDateTime.of(2022, 4, 10, 12, 0);
+        List<ContactEntity> rows = new ArrayList<>();
+        for (long id = DEFAULT_PAGE_SIZE + 1; id >= 1; id--) {
+            ContactEntity contact = createContact(id, "Juan Perez", "342525156", "juanperez@gmail.com", "MessageExample");
+            contact.setCreatedAt(newest.minusMinutes(DEFAULT_PAGE_SIZE + 1 - id));
+            rows.add(contact);
+        }
+        when(contactRepository.findNewest(seekPage())).thenReturn(rows);
+
+        String nextCursor = encodeCursor(2L, newest.minusMinutes(DEFAULT_PAGE_SIZE - 1), false);
+        mockMvc.perform(get(URL).param("cursor", ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(DEFAULT_PAGE_SIZE)))
+                .andExpect(jsonPath("$.body[0].id").value(DEFAULT_PAGE_SIZE + 1))
+                .andExpect(jsonPath("$.nextCursor", is(nextCursor)))
+                .andExpect(jsonPath("$.nextPage", is(URL + "?cursor=" + nextCursor)))
+                .andExpect(jsonPath("$.previousCursor").doesNotExist());
+
+        when(contactRepository.findOlderThan(newest.minusMinutes(DEFAULT_PAGE_SIZE - 1), 2L, seekPage()))
+                .thenReturn(rows.subList(DEFAULT_PAGE_SIZE, DEFAULT_PAGE_SIZE + 1));
+
+        mockMvc.perform(get(URL).param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(1)))
+                .andExpect(jsonPath("$.body[0].id").value(1L))
+                .andExpect(jsonPath("$.nextPage", is("This is the last page")))
+                .andExpect(jsonPath("$.previousCursor", is(encodeCursor(1L, newest.minusMinutes(DEFAULT_PAGE_SIZE), true))));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllContactsByCursorWithoutDate() throws Exception {
+        mockMvc.perform(get(URL).param("cursor", encodeCursor(5L, false)))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("The cursor is not valid"));
     }
 
     @Test
@@ -69,6 +131,65 @@ class ContactControllerTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportContactsCsv() throws Exception {
+        when(contactRepository.streamAllBy()).thenReturn(Stream.of(
+                createContact(1L, "Juan Perez", "342525156", "juanperez@gmail.com", "MessageExample" ),
+                createContact(2L, "Ignacio Rodriguez", "11334565", "ignacior@gmail.com", "MessageExample2" )));
+
+        MvcResult result = mockMvc.perform(get(URL + "/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"contacts.csv\""))
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(content().string(startsWith("id,name,phone,email,message,createdAt,updatedAt\n")))
+                .andExpect(content().string(containsString("1,\"Juan Perez\",342525156,juanperez@gmail.com,MessageExample,,\n")))
+                .andExpect(content().string(containsString("2,\"Ignacio Rodriguez\",11334565,ignacior@gmail.com,MessageExample2,,\n")));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportContactsCsvNeutralizesFormulas() throws Exception {
+        when(contactRepository.streamAllBy()).thenReturn(Stream.of(
+                createContact(1L, "=HYPERLINK(\"http://evil\")", "+5491100000000", "@juan@gmail.com", "-1+2")));
+
+        MvcResult result = mockMvc.perform(get(URL + "/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("1,\"'=HYPERLINK(\"\"http://evil\"\")\",\"'+5491100000000\",\"'@juan@gmail.com\",\"'-1+2\",,\n")));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportContactsNdjson() throws Exception {
+        when(contactRepository.streamAllBy()).thenReturn(Stream.of(
+                createContact(1L, "Juan Perez", "342525156", "juanperez@gmail.com", "MessageExample" )));
+
+        MvcResult result = mockMvc.perform(get(URL + "/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(jsonPath("$.id").value(1L))
+                .andExpect(jsonPath("$.email").value("juanperez@gmail.com"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void exportContactsUser() throws Exception {
+        mockMvc.perform(get(URL + "/export"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void saveContactOk() throws Exception {
@@ -85,6 +206,9 @@ class ContactControllerTest {
                 .andExpect(jsonPath("$.phone", is("341232456")))
                 .andExpect(jsonPath("$.email", is("mariagonzalez@gmail.com")))
                 .andExpect(jsonPath("$.message", is("MessageExample3")));
+
+        verify(mailOutboxRepository).save(argThat((MailOutboxEntity mail) ->
+                mail.getRecipient().equals("mariagonzalez@gmail.com") && mail.getStatus() == OutboxStatus.PENDING));
     }
 
     @Test
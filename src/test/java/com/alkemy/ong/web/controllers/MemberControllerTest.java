@@ -11,23 +11,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
 import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.encodeCursor;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@SpringBootTest(properties = "bulk.chunk-size=2")
 @AutoConfigureMockMvc
 public class MemberControllerTest {
 
@@ -79,6 +84,71 @@ public class MemberControllerTest {
                 .andExpect(jsonPath("$.[0]",is("Name field cannot be empty or be null.")));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void saveAllReportsInvalidRows() throws Exception {
+        MemberDTO invalid = buildDto(null);
+        invalid.setName("James 2");
+
+        when(memberRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<MemberEntity> entities = invocation.getArgument(0);
+            long id = 1;
+            for (MemberEntity entity : entities) {
+                entity.setId(id++);
+            }
+            return entities;
+        });
+
+        mockMvc.perform(post("/members/bulk")
+                        .contentType(APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(Arrays.asList(buildDto(null), invalid, buildDto(7l)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received",is(3)))
+                .andExpect(jsonPath("$.created",is(2)))
+                .andExpect(jsonPath("$.ids",contains(1, 2)))
+                .andExpect(jsonPath("$.errors",hasSize(1)))
+                .andExpect(jsonPath("$.errors.[0].row",is(2)))
+                .andExpect(jsonPath("$.errors.[0].messages.[0]",is("Name field cannot admit number.")));
+
+        verify(memberRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void saveAllReportsRowsOfAChunkTheDatabaseRejects() throws Exception {
+        when(memberRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        List<MemberDTO> members = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            members.add(buildDto(id));
+        }
+
+        mockMvc.perform(post("/members/bulk")
+                        .contentType(APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(members)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received",is(5)))
+                .andExpect(jsonPath("$.created",is(3)))
+                .andExpect(jsonPath("$.ids",hasSize(3)))
+                .andExpect(jsonPath("$.errors.[*].row",contains(3, 4)));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void saveAllFromNdjson() throws Exception {
+        when(memberRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        mockMvc.perform(post("/members/bulk")
+                        .contentType("application/x-ndjson")
+                        .content(mapper.writeValueAsString(buildDto(null)) + "\n{\"name\": [1]}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received",is(2)))
+                .andExpect(jsonPath("$.created",is(1)))
+                .andExpect(jsonPath("$.errors.[0].row",is(2)));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void deleteSuccess() throws Exception {
@@ -161,7 +231,7 @@ public class MemberControllerTest {
     void findAllSuccess() throws Exception {
         PageModel<MemberEntity> pageModel = buildPageModel();
 
-        when(memberRepository.findAll(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new PageImpl<>(pageModel.getBody()));
+        when(memberRepository.findAllBy(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new SliceImpl<>(pageModel.getBody()));
 
         mockMvc.perform(get("/members?page={page}",0)
                         .contentType(APPLICATION_JSON)
@@ -179,6 +249,37 @@ public class MemberControllerTest {
 
     }
 
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAllByCursorSuccess() throws Exception {
+        List<MemberEntity> rows = new ArrayList<>();
+        for (long id = 1; id <= DEFAULT_PAGE_SIZE + 1; id++) {
+            rows.add(buildEntity(id));
+        }
+
+        when(memberRepository.findByIdGreaterThanOrderByIdAsc(0L, seekPage())).thenReturn(rows);
+
+        mockMvc.perform(get("/members?cursor=")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body",hasSize(DEFAULT_PAGE_SIZE)))
+                .andExpect(jsonPath("$.body.[0].id",is(1)))
+                .andExpect(jsonPath("$.nextCursor",is(encodeCursor(10L, false))))
+                .andExpect(jsonPath("$.nextPage",is("/members?cursor=" + encodeCursor(10L, false))))
+                .andExpect(jsonPath("$.previousCursor").doesNotExist())
+                .andExpect(jsonPath("$.previuosPage",is("This is the first page")));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void findAllByCursorBadRequest() throws Exception {
+
+        mockMvc.perform(get("/members?cursor={cursor}","not-a-cursor")
+                        .contentType(APPLICATION_JSON))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("The cursor is not valid"));
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void findAllBadRequest() throws Exception {
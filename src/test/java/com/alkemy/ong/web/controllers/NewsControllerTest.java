@@ -6,6 +6,8 @@ import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
 import com.alkemy.ong.web.controllers.NewsController.NewsDTO;
 import com.alkemy.ong.web.controllers.CommentController.*;
 import com.alkemy.ong.data.entities.NewsEntity;
+import com.alkemy.ong.data.entities.UserEntity;
+import com.alkemy.ong.data.repositories.CommentRepository;
 import com.alkemy.ong.data.repositories.NewsRepository;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,19 +16,24 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
 import static com.alkemy.ong.data.utils.PaginationUtils.DEFAULT_PAGE_SIZE;
+import static com.alkemy.ong.data.utils.PaginationUtils.NEWEST_FIRST;
+import static com.alkemy.ong.data.utils.PaginationUtils.seekPage;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -45,6 +52,9 @@ class NewsControllerTest {
     @MockBean
     NewsRepository newsRepository;
 
+    @MockBean
+    CommentRepository commentRepository;
+
     private final String url = "/news";
 
     @Test
@@ -52,7 +62,7 @@ class NewsControllerTest {
     void findAll() throws Exception {
         PageModel<NewsEntity> pageModelNewsEntity = toPage();
 
-        when(newsRepository.findAll(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new PageImpl<>(pageModelNewsEntity.getBody()));
+        when(newsRepository.findAllBy(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new SliceImpl<>(pageModelNewsEntity.getBody()));
 
         mockMvc.perform(get("/news").param("page", "0").contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(pageModelNewsEntity)))
@@ -61,17 +71,45 @@ class NewsControllerTest {
                 .andExpect(jsonPath("$.body",hasSize(2)))
                 .andExpect(jsonPath("$.body.[0].name",is("Summer Colony")))
                 .andExpect(jsonPath("$.body.[1].name",is("Summer Colony")))
+                .andExpect(jsonPath("$.body.[0].commentCount",is(0)))
                 .andExpect(jsonPath("$.nextPage",is("This is the last page")))
                 .andExpect(jsonPath("$.previuosPage",is("This is the first page")))
                 .andExpect(content().contentType("application/json"));
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void findAllNotModified() throws Exception {
+        PageModel<NewsEntity> pageModelNewsEntity = toPage();
+
+        when(newsRepository.findAllBy(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new SliceImpl<>(pageModelNewsEntity.getBody()));
+        when(newsRepository.findById(1L)).thenReturn(Optional.of(pageModelNewsEntity.getBody().get(0)));
+
+        String etag = mockMvc.perform(get("/news").param("page", "0"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", containsString("max-age=60")))
+                .andExpect(header().doesNotExist("Last-Modified"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/news").param("page", "0").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        verify(newsRepository, times(1)).findAllBy(PageRequest.of(0,DEFAULT_PAGE_SIZE));
+
+        when(newsRepository.findVersion()).thenReturn("1:1648807200:1648807200");
+        mockMvc.perform(delete("/news/1")).andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/news").param("page", "0").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void findById() throws Exception {
         NewsEntity newsEntity = buildModel(1L, "Summer Colony", "Swimming pool for the little ones", "https://upload.wikimedia.org/wikipedia/commons/9/9f/Olympic_Pool_Munich_1972.jpg", "news");
         NewsDTO newsDTO = buildDTO(1L, "Summer Colony", "Swimming pool for the little ones", "https://upload.wikimedia.org/wikipedia/commons/9/9f/Olympic_Pool_Munich_1972.jpg", "news");
-        when(newsRepository.findById(1L)).thenReturn(Optional.of(newsEntity));
+        when(newsRepository.findWithCommentsByNewsId(1L)).thenReturn(Optional.of(newsEntity));
 
         mockMvc.perform(get(url + "/1")
                         .contentType(APPLICATION_JSON)
@@ -184,6 +222,47 @@ class NewsControllerTest {
         mockMvc.perform(delete("/news/789")).andExpect(status().isNotFound());
     }
 
+    @Test
+    void getCommentsByNews() throws Exception {
+        NewsEntity newsEntity = buildModel(1L, "Summer Colony", "Swimming pool for the little ones", "pool.jpg", "news");
+        List<CommentEntity> comments = Arrays.asList(
+                buildComment(2L, newsEntity, LocalDateTime.of(2022, 4, 2, 10, 0)),
+                buildComment(1L, newsEntity, LocalDateTime.of(2022, 4, 1, 10, 0)));
+
+        when(commentRepository.findByNewsEntityNewsId(1L, seekPage(NEWEST_FIRST))).thenReturn(comments);
+
+        mockMvc.perform(get("/news/posts/{id}/comments", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(2)))
+                .andExpect(jsonPath("$.body.[0].id", is(2)))
+                .andExpect(jsonPath("$.body.[0].body", is("Great news")))
+                .andExpect(jsonPath("$.body.[0].newsId", is(1)))
+                .andExpect(jsonPath("$.body.[0].name").doesNotExist())
+                .andExpect(jsonPath("$.body.[1].id", is(1)))
+                .andExpect(jsonPath("$.nextPage", is("This is the last page")));
+
+        verify(newsRepository, never()).findWithCommentsByNewsId(anyLong());
+    }
+
+    @Test
+    void getCommentsByNewsNotFound() throws Exception {
+        when(commentRepository.findByNewsEntityNewsId(99L, seekPage(NEWEST_FIRST))).thenReturn(Collections.emptyList());
+        when(newsRepository.existsById(99L)).thenReturn(false);
+
+        mockMvc.perform(get("/news/posts/{id}/comments", 99L))
+                .andExpect(status().isNotFound());
+    }
+
+    private CommentEntity buildComment(Long id, NewsEntity newsEntity, LocalDateTime createdAt) {
+        return CommentEntity.builder()
+                .id(id)
+                .body("Great news")
+                .userEntity(UserEntity.builder().id(4L).build())
+                .newsEntity(newsEntity)
+                .createdAt(createdAt)
+                .build();
+    }
+
     private NewsEntity buildModel(Long newsId, String name, String content, String image, String type){
         List<CommentEntity> comments = Collections.emptyList();
         return NewsEntity.builder()
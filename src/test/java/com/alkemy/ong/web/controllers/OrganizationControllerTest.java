@@ -9,7 +9,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import com.alkemy.ong.data.entities.OrganizationEntity;
 import com.alkemy.ong.data.repositories.OrganizationRepository;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
+import com.alkemy.ong.domain.organization.OrganizationViewCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -33,11 +35,19 @@ public class OrganizationControllerTest {
     @Autowired
     ObjectMapper objectMapper;
 
+    @Autowired
+    OrganizationViewCache organizationViewCache;
+
+    @BeforeEach
+    void setUp() {
+        organizationViewCache.invalidateAll();
+    }
+
     @Test
     void getOrganizationByIdSuccessTest() throws Exception {
         OrganizationEntity organizationEntity = toEntity(1L, "Organization", "image.png", "Mendoza", 5492615111111L, "org@mail.com", "Welcome!", "About us", "fb.com/org", "lkdn.com/org", "instagram.com/org");
 
-        when(organizationRepository.findById(organizationEntity.getIdOrganization())).thenReturn(Optional.of(organizationEntity));
+        when(organizationRepository.findWithSlidesByIdOrganization(organizationEntity.getIdOrganization())).thenReturn(Optional.of(organizationEntity));
 
         mockMvc.perform(get("/organizations/public/1")
                 .contentType(APPLICATION_JSON)).andExpect(status().isOk())
@@ -57,13 +67,36 @@ public class OrganizationControllerTest {
 
     @Test
     void getOrganizationByIdNotFoundTest() throws Exception {
-        doThrow(ResourceNotFoundException.class).when(organizationRepository).findById(555L);
+        doThrow(ResourceNotFoundException.class).when(organizationRepository).findWithSlidesByIdOrganization(555L);
 
         mockMvc.perform(get("/organizations/public/555")
                 .contentType(APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getOrganizationServedFromCacheUntilUpdated() throws Exception {
+        OrganizationEntity organizationEntity = toEntity(1L, "Organization", "image.png", "Mendoza", 5492615111111L, "org@mail.com", "Welcome!", "About us", "fb.com/org", "lkdn.com/org", "instagram.com/org");
+        OrganizationEntity renamedEntity = toEntity(1L, "Renamed", "image.png", "Mendoza", 5492615111111L, "org@mail.com", "Welcome!", "About us", "fb.com/org", "lkdn.com/org", "instagram.com/org");
+
+        when(organizationRepository.findWithSlidesByIdOrganization(1L)).thenReturn(Optional.of(organizationEntity));
+
+        mockMvc.perform(get("/organizations/public/1")).andExpect(jsonPath("$.name").value("Organization"));
+        mockMvc.perform(get("/organizations/public/1")).andExpect(jsonPath("$.name").value("Organization"));
+        verify(organizationRepository, times(1)).findWithSlidesByIdOrganization(1L);
+
+        when(organizationRepository.findById(1L)).thenReturn(Optional.of(organizationEntity));
+        when(organizationRepository.save(organizationEntity)).thenReturn(renamedEntity);
+        when(organizationRepository.findWithSlidesByIdOrganization(1L)).thenReturn(Optional.of(renamedEntity));
+
+        mockMvc.perform(put("/organizations/public/1")
+                .contentType(APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(renamedEntity))).andExpect(status().isOk());
+
+        mockMvc.perform(get("/organizations/public/1")).andExpect(jsonPath("$.name").value("Renamed"));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void updateOrganizationSuccessTest() throws Exception {
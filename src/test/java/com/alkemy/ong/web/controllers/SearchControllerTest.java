@@ -0,0 +1,110 @@
+package com.alkemy.ong.web.controllers;
+
+import com.alkemy.ong.data.repositories.ActivityRepository;
+import com.alkemy.ong.data.repositories.NewsRepository;
+import com.alkemy.ong.data.repositories.TestimonialRepository;
+import com.alkemy.ong.domain.search.SearchDocumentChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.alkemy.ong.domain.search.SearchDocumentType.*;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @MockBean
+    NewsRepository newsRepository;
+
+    @MockBean
+    ActivityRepository activityRepository;
+
+    @MockBean
+    TestimonialRepository testimonialRepository;
+
+    private final String URL = "/search";
+
+    @Test
+    @WithMockUser
+    void searchRanksTitleMatchesFirst() throws Exception {
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(TESTIMONIAL, 101L, "Voluntariado",
+                "Conocí la huerta gracias a una vecina y desde entonces colaboro cada semana con el comedor del barrio."));
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(NEWS, 102L, "Huerta comunitaria",
+                "Inauguramos la huerta del centro."));
+
+        mockMvc.perform(get(URL).param("q", "huerta"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(2)))
+                .andExpect(jsonPath("$.body[0].type", is("news")))
+                .andExpect(jsonPath("$.body[0].id", is(102)))
+                .andExpect(jsonPath("$.body[0].title", is("<em>Huerta</em> comunitaria")))
+                .andExpect(jsonPath("$.body[1].id", is(101)))
+                .andExpect(jsonPath("$.approximateTotal", is(2)));
+    }
+
+    @Test
+    @WithMockUser
+    void searchIgnoresAccentsAndCase() throws Exception {
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(ACTIVITY, 201L, "Taller de alfabetización",
+                "Clases para adultos <los sábados>."));
+
+        mockMvc.perform(get(URL).param("q", "ALFABETIZACION"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(1)))
+                .andExpect(jsonPath("$.body[0].title", is("Taller de <em>alfabetización</em>")))
+                .andExpect(jsonPath("$.body[0].snippet", is("Clases para adultos &lt;los sábados&gt;.")));
+    }
+
+    @Test
+    @WithMockUser
+    void searchIsPaginated() throws Exception {
+        for (long id = 301; id <= 312; id++) {
+            eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(NEWS, id, "Colecta " + id, "Juntamos ropa de abrigo."));
+        }
+
+        mockMvc.perform(get(URL).param("q", "abrigo"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(10)))
+                .andExpect(jsonPath("$.nextPage", is("/search?q=abrigo&page=1")))
+                .andExpect(jsonPath("$.approximateTotal", is(12)));
+        mockMvc.perform(get(URL).param("q", "abrigo").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(2)))
+                .andExpect(jsonPath("$.nextPage", is("This is the last page")));
+    }
+
+    @Test
+    @WithMockUser
+    void deletedDocumentsAreNotFound() throws Exception {
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.saved(TESTIMONIAL, 401L, "Merendero", "Gracias al merendero."));
+        eventPublisher.publishEvent(SearchDocumentChangedEvent.deleted(TESTIMONIAL, 401L));
+
+        mockMvc.perform(get(URL).param("q", "merendero"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.body", hasSize(0)));
+    }
+
+    @Test
+    @WithMockUser
+    void searchWithoutQueryIsBadRequest() throws Exception {
+        mockMvc.perform(get(URL).param("q", " "))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,176 @@
+package com.alkemy.ong.web.controllers;
+
+import com.alkemy.ong.cloud.InMemoryAmazonS3;
+import com.alkemy.ong.data.entities.OrganizationEntity;
+import com.alkemy.ong.data.repositories.OrganizationRepository;
+import com.alkemy.ong.web.controllers.SlidesController.SlidesDto;
+import com.alkemy.ong.web.controllers.SlidesController.SlidesOrderDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.hamcrest.Matchers.contains;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class SlidesControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    InMemoryAmazonS3 amazonS3;
+
+    @Autowired
+    OrganizationRepository organizationRepository;
+
+    @TestConfiguration
+    static class S3StandIn {
+        @Bean
+        @Primary
+        InMemoryAmazonS3 inMemoryAmazonS3() {
+            return new InMemoryAmazonS3();
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createNumbersSlidesFromOneForAnOrganizationWithoutSlides() throws Exception {
+        Long idOrganization = createOrganization();
+
+        assertEquals(1, createSlide(idOrganization, null).getOrder());
+        assertEquals(2, createSlide(idOrganization, null).getOrder());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createRejectsAnOrderAlreadyTaken() throws Exception {
+        Long idOrganization = createOrganization();
+        createSlide(idOrganization, 5);
+        int stored = amazonS3.getObjectCount();
+
+        mockMvc.perform(post("/slides")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(slide(idOrganization, 5))))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(stored, amazonS3.getObjectCount());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void updateRejectsAnOrderAlreadyTaken() throws Exception {
+        Long idOrganization = createOrganization();
+        createSlide(idOrganization, 1);
+        SlidesDto second = createSlide(idOrganization, 2);
+        second.setOrder(1);
+
+        mockMvc.perform(put("/slides/{id}", second.getIdSlides())
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(second)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void reorderRenumbersSlidesInTheGivenOrder() throws Exception {
+        Long idOrganization = createOrganization();
+        Long first = createSlide(idOrganization, null).getIdSlides();
+        Long second = createSlide(idOrganization, null).getIdSlides();
+        Long third = createSlide(idOrganization, null).getIdSlides();
+
+        mockMvc.perform(put("/slides/order")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SlidesOrderDTO(idOrganization, List.of(third, first, second)))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].idSlides", contains(third.intValue(), first.intValue(), second.intValue())))
+                .andExpect(jsonPath("$[*].order", contains(1, 2, 3)));
+
+        assertEquals(4, createSlide(idOrganization, null).getOrder());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void reorderRejectsAListThatIsNotExactlyTheOrganizationSlides() throws Exception {
+        Long idOrganization = createOrganization();
+        Long first = createSlide(idOrganization, null).getIdSlides();
+        createSlide(idOrganization, null);
+
+        mockMvc.perform(put("/slides/order")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new SlidesOrderDTO(idOrganization, List.of(first)))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void createRejectsImagesThatAreNotPngOrJpeg() throws Exception {
+        String html = Base64.getEncoder().encodeToString("<script>alert(1)</script>".getBytes());
+        SlidesDto slide = SlidesDto.builder()
+                .imageUrl("data:text/html;base64," + html)
+                .text("Slide")
+                .idOrganization(1L)
+                .build();
+        int stored = amazonS3.getObjectCount();
+
+        mockMvc.perform(post("/slides")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(slide)))
+                .andExpect(status().isBadRequest());
+
+        assertEquals(stored, amazonS3.getObjectCount());
+    }
+
+    private Long createOrganization() {
+        return organizationRepository.save(OrganizationEntity.builder()
+                .name("Organization")
+                .image("image.png")
+                .address("Mendoza")
+                .phone(12345L)
+                .email("org@mail.com")
+                .welcomeText("Welcome!")
+                .aboutUsText("About us")
+                .facebookUrl("fb.com/org")
+                .linkedinUrl("lkdn.com/org")
+                .instagramUrl("instagram.com/org")
+                .deleted(Boolean.FALSE)
+                .build()).getIdOrganization();
+    }
+
+    private SlidesDto createSlide(Long idOrganization, Integer order) throws Exception {
+        String response = mockMvc.perform(post("/slides")
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(slide(idOrganization, order))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, SlidesDto.class);
+    }
+
+    private SlidesDto slide(Long idOrganization, Integer order) {
+        return SlidesDto.builder()
+                .imageUrl("data:image/png;base64," + Base64.getEncoder().encodeToString(new byte[]{1, 2, 3}))
+                .text("Slide")
+                .order(order)
+                .idOrganization(idOrganization)
+                .build();
+    }
+}
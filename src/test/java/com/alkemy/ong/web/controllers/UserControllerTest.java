@@ -6,16 +6,19 @@ import com.alkemy.ong.data.pagination.PageModel;
 import com.alkemy.ong.data.repositories.RoleRepository;
 import com.alkemy.ong.data.repositories.UserRepository;
 import com.alkemy.ong.domain.exceptions.ResourceNotFoundException;
+import com.alkemy.ong.domain.security.AuthenticatedUser;
 import com.alkemy.ong.domain.security.jwt.JwtUtil;
+import com.alkemy.ong.domain.users.UserCache;
 import com.alkemy.ong.web.controllers.UserController.UserDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
@@ -57,6 +60,14 @@ public class UserControllerTest {
     @Autowired
     JwtUtil jwtUtil;
 
+    @Autowired
+    UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache.invalidateAll();
+    }
+
     @Test
     @WithMockUser(roles = "USER")
     void findByIdSuccess() throws Exception {
@@ -98,12 +109,26 @@ public class UserControllerTest {
                 .andExpect(content().string("No User found with ID 55"));
     }
 
+    @Test
+    void findByIdForbiddenWithUserIdClaim() throws Exception {
+        UserEntity userEntity = buildEntity(1l,"ADMIN");
+
+        when(userRepository.findByEmail(userEntity.getEmail())).thenReturn(Optional.of(userEntity));
+
+        String token = jwtUtil.generateToken(new AuthenticatedUser(2l, userEntity.getEmail(), "12345678",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        mockMvc.perform(get("/users/{id}",1l).header("Authorization","Bearer "+token))
+                .andExpect(status().isForbidden())
+                .andExpect(content().string("Does not have authorization"));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void findAllSuccess() throws Exception {
         PageModel<UserEntity> pageModel = buildPageModel();
 
-        when(userRepository.findAll(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new PageImpl<>(pageModel.getBody()));
+        when(userRepository.findAllBy(PageRequest.of(0,DEFAULT_PAGE_SIZE))).thenReturn(new SliceImpl<>(pageModel.getBody()));
 
         mockMvc.perform(get("/users?page={page}",0)
                     .contentType(APPLICATION_JSON)